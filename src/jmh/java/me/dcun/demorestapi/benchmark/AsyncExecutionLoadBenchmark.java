@@ -0,0 +1,78 @@
+package me.dcun.demorestapi.benchmark;
+
+import me.dcun.demorestapi.DemoApplication;
+import me.dcun.demorestapi.events.EventMapper;
+import me.dcun.demorestapi.events.EventRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 동시 클라이언트 200 개가 실제 톰캣에 GET /api/events 를 보낼 때의 처리량.
+ * asyncExecution=false 는 요청마다 톰캣 스레드 하나가 JDBC 를 기다리는 기본 방식이고,
+ * true 는 JdbcExecution 이 조회 작업을 커넥션 풀 크기의 executor 에서 실행하고 톰캣 스레드는 바로 반환한다.
+ * 두 경우 모두 톰캣 스레드는 tomcatThreads 개로 제한한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(200)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AsyncExecutionLoadBenchmark {
+    @Param({"false", "true"})
+    private boolean asyncExecution;
+
+    @Param({"50"})
+    private int tomcatThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(DemoApplication.class)
+                .profiles("test")
+                .properties("server.port=0",
+                        "server.tomcat.threads.max=" + tomcatThreads,
+                        "my-app.async-execution-enabled=" + asyncExecution,
+                        "my-app.async-executor-size=10",
+                        "spring.datasource.hikari.maximum-pool-size=10",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "logging.level.org.springframework.security=WARN")
+                .run();
+        EventMapper eventMapper = context.getBean(EventMapper.class);
+        context.getBean(EventRepository.class).saveAll(IntStream.range(0, 100)
+                .mapToObj(i -> eventMapper.toEvent(BenchmarkRequests.eventDto()))
+                .collect(Collectors.toList()));
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        client = HttpClient.newHttpClient();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/events?page=0&size=20"))
+                .header("Accept", "application/hal+json")
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int queryEvents() throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
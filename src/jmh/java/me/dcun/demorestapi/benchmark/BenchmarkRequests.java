@@ -0,0 +1,47 @@
+package me.dcun.demorestapi.benchmark;
+
+import me.dcun.demorestapi.events.EventDto;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+
+/**
+ * 벤치마크에서 공통으로 사용하는 요청 컨텍스트와 입력 데이터.
+ */
+final class BenchmarkRequests {
+    private BenchmarkRequests() {
+    }
+
+    //링크 생성은 현재 요청의 host/context-path 를 사용하므로 요청을 바인딩해 둔다.
+    //RequestContextHolder 는 스레드 로컬이므로 사용하는 쪽의 State 는 Scope.Thread 여야 한다.
+    static void bindRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.setServerName("localhost");
+        request.setServerPort(8080);
+        request.setQueryString("page=1&size=20");
+        request.addParameter("page", "1");
+        request.addParameter("size", "20");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    static void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    static EventDto eventDto() {
+        return EventDto.builder()
+                .name("spring")
+                .description("REST API")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 3, 27, 11, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 3, 28, 11, 30))
+                .beginEventDateTime(LocalDateTime.of(2022, 4, 27, 11, 30))
+                .endEventDateTime(LocalDateTime.of(2022, 4, 28, 11, 30))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역")
+                .build();
+    }
+}
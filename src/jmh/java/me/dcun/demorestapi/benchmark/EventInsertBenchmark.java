@@ -0,0 +1,72 @@
+package me.dcun.demorestapi.benchmark;
+
+import me.dcun.demorestapi.DemoApplication;
+import me.dcun.demorestapi.events.Event;
+import me.dcun.demorestapi.events.EventMapper;
+import me.dcun.demorestapi.events.EventRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * EventRepository.saveAll 의 초당 insert 수. H2(test 프로필)에서 id 할당 크기별로 비교한다.
+ * allocationSize=1 은 insert 마다 시퀀스를 조회하던 이전 방식과 같다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+@OperationsPerInvocation(EventInsertBenchmark.BATCH)
+public class EventInsertBenchmark {
+    static final int BATCH = 1000;
+
+    @Param({"1", "50"})
+    private int allocationSize;
+
+    private ConfigurableApplicationContext context;
+    private EventRepository eventRepository;
+    private EventMapper eventMapper;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(DemoApplication.class)
+                .profiles("test")
+                .properties("server.port=0",
+                        "my-app.id-allocation-size=" + allocationSize,
+                        //마이그레이션의 시퀀스 increment(50) 와 다른 allocationSize 도 비교하도록 스키마는 Hibernate 가 만든다.
+                        "spring.flyway.enabled=false",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "logging.level.org.springframework.security=WARN")
+                .run();
+        eventRepository = context.getBean(EventRepository.class);
+        eventMapper = context.getBean(EventMapper.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clear() {
+        eventRepository.deleteAllInBatch();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Event> saveAll() {
+        List<Event> events = IntStream.range(0, BATCH)
+                .mapToObj(i -> eventMapper.toEvent(BenchmarkRequests.eventDto()))
+                .collect(Collectors.toList());
+        return eventRepository.saveAll(events);
+    }
+}
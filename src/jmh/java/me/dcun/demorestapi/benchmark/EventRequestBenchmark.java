@@ -0,0 +1,84 @@
+package me.dcun.demorestapi.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import me.dcun.demorestapi.events.Event;
+import me.dcun.demorestapi.events.EventDto;
+import me.dcun.demorestapi.events.EventMapper;
+import me.dcun.demorestapi.events.EventValidator;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * POST/PUT /api/events 요청 처리 중 컨트롤러 진입 전후의 CPU 구간.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventRequestBenchmark {
+    private ObjectMapper objectMapper;
+    private EventValidator eventValidator;
+    private ModelMapper modelMapper;
+    private EventMapper eventMapper;
+    private EventDto eventDto;
+    private String eventDtoJson;
+    private Event event;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        eventValidator = new EventValidator();
+        modelMapper = new ModelMapper();
+        eventMapper = new EventMapper();
+        eventDto = BenchmarkRequests.eventDto();
+        eventDtoJson = objectMapper.writeValueAsString(eventDto);
+        event = eventMapper.toEvent(eventDto);
+    }
+
+    @Benchmark
+    public EventDto deserializeEventDto() throws Exception {
+        return objectMapper.readValue(eventDtoJson, EventDto.class);
+    }
+
+    @Benchmark
+    public Errors validate() {
+        Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+        eventValidator.validate(eventDto, errors);
+        return errors;
+    }
+
+    @Benchmark
+    public Event mapWithModelMapper() {
+        return modelMapper.map(eventDto, Event.class);
+    }
+
+    @Benchmark
+    public Event mapWithEventMapper() {
+        return eventMapper.toEvent(eventDto);
+    }
+
+    @Benchmark
+    public Event updateWithModelMapper() {
+        modelMapper.map(eventDto, event);
+        return event;
+    }
+
+    @Benchmark
+    public Event updateWithEventMapper() {
+        eventMapper.update(eventDto, event);
+        return event;
+    }
+
+    @Benchmark
+    public boolean eventUpdate() {
+        event.update();
+        return event.isFree();
+    }
+}
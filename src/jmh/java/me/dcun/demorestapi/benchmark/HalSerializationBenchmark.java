@@ -0,0 +1,128 @@
+package me.dcun.demorestapi.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import me.dcun.demorestapi.accounts.Account;
+import me.dcun.demorestapi.common.ErrorsResource;
+import me.dcun.demorestapi.common.ErrorsSerializer;
+import me.dcun.demorestapi.common.LinkTemplates;
+import me.dcun.demorestapi.events.Event;
+import me.dcun.demorestapi.events.EventController;
+import me.dcun.demorestapi.events.EventDto;
+import me.dcun.demorestapi.events.EventMapper;
+import me.dcun.demorestapi.events.EventResource;
+import me.dcun.demorestapi.events.EventSummary;
+import me.dcun.demorestapi.events.EventSummaryResource;
+import me.dcun.demorestapi.events.EventValidator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 응답 생성 구간 : HAL 링크 생성과 JSON 직렬화.
+ * pagedEventSummaries 가 queryEvents 의 실제 경로이고, pagedEvents 는 엔티티로 목록을 만들던 이전 경로와의 비교용이다.
+ * 회귀 확인에는 시간과 함께 페이지당 할당량(gc.alloc.rate.norm)을 본다. benchmark 프로필은 gc 프로파일러를 기본으로 켠다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HalSerializationBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    private ObjectMapper objectMapper;
+    private PagedResourcesAssembler<Event> pagedResourcesAssembler;
+    private PagedResourcesAssembler<EventSummary> pagedSummaryAssembler;
+    private Event event;
+    private Page<Event> page;
+    private Page<EventSummary> summaryPage;
+    private Errors errors;
+
+    @Setup
+    public void setUp() {
+        BenchmarkRequests.bindRequest();
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(new Jackson2HalModule())
+                .registerModule(new SimpleModule().addSerializer(Errors.class, new ErrorsSerializer()))
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                new DefaultLinkRelationProvider(), CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY));
+        pagedResourcesAssembler = new PagedResourcesAssembler<>(new HateoasPageableHandlerMethodArgumentResolver(), null);
+        pagedSummaryAssembler = new PagedResourcesAssembler<>(new HateoasPageableHandlerMethodArgumentResolver(), null);
+
+        Account manager = Account.builder().id(1).build();
+        EventMapper eventMapper = new EventMapper();
+        List<Event> events = IntStream.range(0, PAGE_SIZE)
+                .mapToObj(i -> {
+                    Event e = eventMapper.toEvent(BenchmarkRequests.eventDto());
+                    e.setId(i + 1);
+                    e.setManager(manager);
+                    e.update();
+                    return e;
+                })
+                .collect(Collectors.toList());
+        event = events.get(0);
+        page = new PageImpl<>(events, PageRequest.of(1, PAGE_SIZE), 1000);
+        List<EventSummary> summaries = events.stream()
+                .map(e -> new EventSummary(e.getId(), e.getName(), e.getDescription(),
+                        e.getBeginEnrollmentDateTime(), e.getCloseEnrollmentDateTime(),
+                        e.getBeginEventDateTime(), e.getEndEventDateTime(),
+                        e.getLocation(), e.getBasePrice(), e.getMaxPrice(), e.getLimitOfEnrollment(),
+                        e.isOffline(), e.isFree(), e.getEventStatus(), manager.getId()))
+                .collect(Collectors.toList());
+        summaryPage = new PageImpl<>(summaries, PageRequest.of(1, PAGE_SIZE), 1000);
+
+        EventDto wrong = BenchmarkRequests.eventDto();
+        wrong.setBasePrice(20000);
+        wrong.setBeginEventDateTime(wrong.getEndEventDateTime().plusDays(1));
+        errors = new BeanPropertyBindingResult(wrong, "eventDto");
+        new EventValidator().validate(wrong, errors);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkRequests.resetRequest();
+    }
+
+    @Benchmark
+    public String eventResource() throws Exception {
+        return objectMapper.writeValueAsString(new EventResource(event));
+    }
+
+    @Benchmark
+    public String pagedEvents() throws Exception {
+        return objectMapper.writeValueAsString(pagedResourcesAssembler.toModel(page, EventResource::new));
+    }
+
+    //queryEvents 와 같이 요청마다 기준 href 를 한 번 구하고 항목마다 id 만 붙인다.
+    @Benchmark
+    public String pagedEventSummaries() throws Exception {
+        String baseHref = LinkTemplates.controllerHref(EventController.class);
+        return objectMapper.writeValueAsString(
+                pagedSummaryAssembler.toModel(summaryPage, e -> new EventSummaryResource(e, baseHref)));
+    }
+
+    @Benchmark
+    public String errorsResource() throws Exception {
+        return objectMapper.writeValueAsString(new ErrorsResource(errors));
+    }
+}
@@ -0,0 +1,93 @@
+package me.dcun.demorestapi.benchmark;
+
+import me.dcun.demorestapi.DemoApplication;
+import me.dcun.demorestapi.events.Event;
+import me.dcun.demorestapi.events.EventMapper;
+import me.dcun.demorestapi.events.EventRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 기본 설정과 prod 프로필의 처리량 비교. 로컬 PostgreSQL(application.properties 의 datasource)에 64 개 클라이언트가
+ * 목록 조회와 단건 조회를 보낸다. 두 경우 모두 스키마는 Flyway 마이그레이션으로 만든다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(64)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProfileLoadBenchmark {
+    private static final int EVENTS = 1000;
+
+    @Param({"default", "prod"})
+    private String profile;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+    private List<Integer> ids;
+
+    @Setup
+    public void setUp() {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(DemoApplication.class)
+                .properties("server.port=0",
+                        "my-app.response-cache-enabled=false",
+                        "logging.level.org.springframework.security=WARN");
+        if (!profile.equals("default")) {
+            builder.profiles(profile);
+        }
+        context = builder.run();
+
+        EventMapper eventMapper = context.getBean(EventMapper.class);
+        ids = context.getBean(EventRepository.class).saveAll(IntStream.range(0, EVENTS)
+                        .mapToObj(i -> eventMapper.toEvent(BenchmarkRequests.eventDto()))
+                        .collect(Collectors.toList()))
+                .stream()
+                .map(Event::getId)
+                .collect(Collectors.toList());
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port + "/api/events";
+        client = HttpClient.newHttpClient();
+    }
+
+    @TearDown
+    public void tearDown() {
+        //스키마가 유지되므로 다음 프로필 실행이 같은 데이터 양에서 시작하도록 지운다.
+        context.getBean(EventRepository.class).deleteAllInBatch();
+        context.close();
+    }
+
+    @Benchmark
+    public int queryEvents() throws IOException, InterruptedException {
+        int page = ThreadLocalRandom.current().nextInt(EVENTS / 20);
+        return send(baseUrl + "?page=" + page + "&size=20");
+    }
+
+    @Benchmark
+    public int getEvent() throws IOException, InterruptedException {
+        return send(baseUrl + "/" + ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+    }
+
+    private int send(String url) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Accept", "application/hal+json")
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,95 @@
+package me.dcun.demorestapi.benchmark;
+
+import me.dcun.demorestapi.accounts.Account;
+import me.dcun.demorestapi.accounts.AccountAdapter;
+import me.dcun.demorestapi.accounts.AccountRole;
+import me.dcun.demorestapi.accounts.AccountUserAuthenticationConverter;
+import me.dcun.demorestapi.common.CachingTokenStore;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+import org.springframework.security.oauth2.provider.token.DefaultAccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.DefaultTokenServices;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.security.oauth2.provider.token.store.InMemoryTokenStore;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리소스 서버가 bearer 토큰 하나를 인증 정보로 바꾸는 비용 (ResourceServerTokenServices.loadAuthentication).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenAuthenticationBenchmark {
+    private DefaultTokenServices inMemoryTokenServices;
+    private DefaultTokenServices cachingTokenServices;
+    private DefaultTokenServices jwtTokenServices;
+    private String inMemoryToken;
+    private String cachingToken;
+    private String jwtToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        inMemoryTokenServices = tokenServices(new InMemoryTokenStore(), null);
+        cachingTokenServices = tokenServices(new CachingTokenStore(new InMemoryTokenStore(), 10_000, Duration.ofMinutes(1)), null);
+
+        DefaultAccessTokenConverter accessTokenConverter = new DefaultAccessTokenConverter();
+        accessTokenConverter.setUserTokenConverter(new AccountUserAuthenticationConverter());
+        JwtAccessTokenConverter jwtAccessTokenConverter = new JwtAccessTokenConverter();
+        jwtAccessTokenConverter.setSigningKey("benchmark-signing-key");
+        jwtAccessTokenConverter.setAccessTokenConverter(accessTokenConverter);
+        jwtAccessTokenConverter.afterPropertiesSet();
+        jwtTokenServices = tokenServices(new JwtTokenStore(jwtAccessTokenConverter), jwtAccessTokenConverter);
+
+        inMemoryToken = inMemoryTokenServices.createAccessToken(authentication()).getValue();
+        cachingToken = cachingTokenServices.createAccessToken(authentication()).getValue();
+        jwtToken = jwtTokenServices.createAccessToken(authentication()).getValue();
+    }
+
+    private DefaultTokenServices tokenServices(TokenStore tokenStore, JwtAccessTokenConverter tokenEnhancer) throws Exception {
+        DefaultTokenServices tokenServices = new DefaultTokenServices();
+        tokenServices.setTokenStore(tokenStore);
+        tokenServices.setTokenEnhancer(tokenEnhancer);
+        tokenServices.afterPropertiesSet();
+        return tokenServices;
+    }
+
+    private OAuth2Authentication authentication() {
+        Account account = Account.builder()
+                .id(1)
+                .email("admin@email.com")
+                .password("admin")
+                .roles(Set.of(AccountRole.ADMIN, AccountRole.USER))
+                .build();
+        AccountAdapter principal = new AccountAdapter(account);
+        OAuth2Request request = new OAuth2Request(Map.of(), "myApp", principal.getAuthorities(), true,
+                Set.of("read", "write"), Set.of(), null, Set.of(), Map.of());
+        return new OAuth2Authentication(request,
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @Benchmark
+    public OAuth2Authentication inMemoryStore() {
+        return inMemoryTokenServices.loadAuthentication(inMemoryToken);
+    }
+
+    @Benchmark
+    public OAuth2Authentication cachingStore() {
+        return cachingTokenServices.loadAuthentication(cachingToken);
+    }
+
+    @Benchmark
+    public OAuth2Authentication jwt() {
+        return jwtTokenServices.loadAuthentication(jwtToken);
+    }
+}
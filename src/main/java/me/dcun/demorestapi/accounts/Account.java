@@ -1,19 +1,32 @@
 package me.dcun.demorestapi.accounts;
 
 import lombok.*;
+import me.dcun.demorestapi.common.PooledSequenceGenerator;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import javax.persistence.*;
+import java.io.Serializable;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter @Setter @EqualsAndHashCode(of = "id")
 @Builder @NoArgsConstructor @AllArgsConstructor
-public class Account {
-    @Id @GeneratedValue
+public class Account implements Serializable {
+    @Id
+    @GeneratedValue(generator = "account_seq")
+    @GenericGenerator(name = "account_seq", strategy = PooledSequenceGenerator.STRATEGY,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "account_seq"))
     private Integer id;
     private String email;
     private String password;
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @Enumerated(EnumType.STRING)
     private Set<AccountRole> roles;
 }
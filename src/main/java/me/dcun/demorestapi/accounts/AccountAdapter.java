@@ -13,7 +13,11 @@ public class AccountAdapter extends User {
 
 
     public AccountAdapter(Account account) {
-        super(account.getEmail(), account.getPassword(), authorities(account.getRoles()));
+        this(account, authorities(account.getRoles()));
+    }
+
+    public AccountAdapter(Account account, Collection<? extends GrantedAuthority> authorities) {
+        super(account.getEmail(), account.getPassword(), authorities);
         this.account = account;
     }
 
@@ -1,9 +1,16 @@
 package me.dcun.demorestapi.accounts;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 public interface AccountRepository extends JpaRepository<Account, Integer> {
+    @EntityGraph(attributePaths = "roles")
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<Account> findByEmail(String username);
 }
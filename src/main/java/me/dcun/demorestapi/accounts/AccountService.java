@@ -1,29 +1,110 @@
 package me.dcun.demorestapi.accounts;
 
-import org.springframework.beans.factory.annotation.Autowired;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.annotation.Timed;
+import me.dcun.demorestapi.common.AppProperties;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Service
 public class AccountService implements UserDetailsService {
-    @Autowired
-    AccountRepository accountRepository;
+    private final AccountRepository accountRepository;
+    private final PasswordEncoder passwordEncoder;
+    //email -> 계정 스냅샷. 컨트롤러가 @CurrentUser 로 받은 Account 를 바꿔도 캐시에 영향이 없도록 꺼낼 때마다 새로 만든다.
+    private final Cache<String, CachedPrincipal> principalCache;
+    //id -> 캐시된 email. email 이 바뀐 계정의 이전 항목을 전체 탐색 없이 지운다.
+    private final Map<Integer, String> cachedEmails = new ConcurrentHashMap<>();
 
-    @Autowired
-    PasswordEncoder passwordEncoder;
+    public AccountService(AccountRepository accountRepository, PasswordEncoder passwordEncoder, AppProperties appProperties) {
+        this.accountRepository = accountRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.principalCache = Caffeine.newBuilder()
+                .maximumSize(appProperties.getPrincipalCacheMaximumSize())
+                .expireAfterWrite(appProperties.getPrincipalCacheTimeToLive())
+                .recordStats()
+                //크기, 만료로 밀려난 항목의 id 매핑도 함께 지운다. (명시적 제거는 evict 에서 처리)
+                .<String, CachedPrincipal>evictionListener((email, principal, cause) -> {
+                    if (principal != null) {
+                        cachedEmails.remove(principal.id, email);
+                    }
+                })
+                .build();
+    }
 
     public Account saveAccount(Account account) {
         account.setPassword(this.passwordEncoder.encode(account.getPassword()));
-        return this.accountRepository.save(account);
+        Account savedAccount = this.accountRepository.save(account);
+        evict(savedAccount);
+        return savedAccount;
     }
 
     @Override
+    @Timed(value = "accounts.principal.load", histogram = true)
     public UserDetails loadUserByUsername(String username) {
-        Account account = accountRepository.findByEmail(username)
-                .orElseThrow(() -> new UsernameNotFoundException(username));
-        return new AccountAdapter(account);
+        CachedPrincipal cached = principalCache.get(username, email -> accountRepository.findByEmail(email)
+                .map(this::cache)
+                .orElse(null));
+        if (cached == null) {
+            throw new UsernameNotFoundException(username);
+        }
+        return cached.toAccountAdapter();
+    }
+
+    public CacheStats principalCacheStats() {
+        return principalCache.stats();
+    }
+
+    private CachedPrincipal cache(Account account) {
+        CachedPrincipal principal = new CachedPrincipal(account);
+        cachedEmails.put(account.getId(), account.getEmail());
+        return principal;
+    }
+
+    private void evict(Account account) {
+        principalCache.invalidate(account.getEmail());
+        //email 이 바뀐 경우 이전 email 로 캐시된 항목도 제거
+        String previousEmail = cachedEmails.remove(account.getId());
+        if (previousEmail != null) {
+            principalCache.invalidate(previousEmail);
+        }
+    }
+
+    private static class CachedPrincipal {
+        private final Integer id;
+        private final String email;
+        private final String password;
+        private final Set<AccountRole> roles;
+        private final Collection<? extends GrantedAuthority> authorities;
+
+        CachedPrincipal(Account account) {
+            this.id = account.getId();
+            this.email = account.getEmail();
+            this.password = account.getPassword();
+            this.roles = Set.copyOf(account.getRoles());
+            this.authorities = Set.copyOf(AccountAdapter.authorities(this.roles));
+        }
+
+        //인증 후 credentials 가 지워지므로 AccountAdapter 도 매번 새로 만든다.
+        AccountAdapter toAccountAdapter() {
+            Account account = Account.builder()
+                    .id(id)
+                    .email(email)
+                    .password(password)
+                    .roles(new HashSet<>(roles))
+                    .build();
+            return new AccountAdapter(account, authorities);
+        }
     }
 }
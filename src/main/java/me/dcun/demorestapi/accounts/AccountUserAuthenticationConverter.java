@@ -0,0 +1,57 @@
+package me.dcun.demorestapi.accounts;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.provider.token.DefaultUserAuthenticationConverter;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * JWT 에 account id 를 함께 담고, 검증된 토큰에서 DB 조회 없이 AccountAdapter 를 복원한다.
+ * 복원된 Account 에는 id, email, roles 만 채워진다.
+ */
+public class AccountUserAuthenticationConverter extends DefaultUserAuthenticationConverter {
+    static final String ACCOUNT_ID = "account_id";
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final String NO_CREDENTIALS = "N/A";
+
+    @Override
+    public Map<String, ?> convertUserAuthentication(Authentication authentication) {
+        Map<String, Object> response = new LinkedHashMap<>(super.convertUserAuthentication(authentication));
+        if (authentication.getPrincipal() instanceof AccountAdapter) {
+            response.put(ACCOUNT_ID, ((AccountAdapter) authentication.getPrincipal()).getAccount().getId());
+        }
+        return response;
+    }
+
+    @Override
+    public Authentication extractAuthentication(Map<String, ?> map) {
+        if (!map.containsKey(USERNAME) || !map.containsKey(ACCOUNT_ID)) {
+            return super.extractAuthentication(map);
+        }
+
+        Account account = Account.builder()
+                .id(((Number) map.get(ACCOUNT_ID)).intValue())
+                .email((String) map.get(USERNAME))
+                .password(NO_CREDENTIALS)
+                .roles(roles(map.get(AUTHORITIES)))
+                .build();
+        AccountAdapter principal = new AccountAdapter(account);
+        return new UsernamePasswordAuthenticationToken(principal, NO_CREDENTIALS, principal.getAuthorities());
+    }
+
+    private Set<AccountRole> roles(Object authorities) {
+        if (!(authorities instanceof Collection)) {
+            return Set.of();
+        }
+        return ((Collection<?>) authorities).stream()
+                .map(Object::toString)
+                .filter(a -> a.startsWith(ROLE_PREFIX))
+                .map(a -> AccountRole.valueOf(a.substring(ROLE_PREFIX.length())))
+                .collect(Collectors.toSet());
+    }
+}
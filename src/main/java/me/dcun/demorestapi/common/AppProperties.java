@@ -6,6 +6,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
 import javax.validation.constraints.NotEmpty;
+import java.time.Duration;
 
 @Component
 @ConfigurationProperties(prefix = "my-app")
@@ -23,4 +24,40 @@ public class AppProperties {
     private String clientId;
     @NotEmpty
     private String clientSecret;
+    private long tokenCacheMaximumSize = 10_000;
+    private Duration tokenCacheTimeToLive = Duration.ofSeconds(60);
+    //Event, Account id 시퀀스의 할당 크기 (DB 시퀀스 increment 와 같아야 함)
+    private int idAllocationSize = 50;
+    private long principalCacheMaximumSize = 10_000;
+    private Duration principalCacheTimeToLive = Duration.ofMinutes(5);
+    private boolean responseCacheEnabled = true;
+    private long responseCacheMaximumSize = 1_000;
+    private Duration responseCacheTimeToLive = Duration.ofSeconds(30);
+    private Duration responseCacheMaxAge = Duration.ofSeconds(10);
+    //이벤트 조회의 JDBC 작업을 톰캣 스레드 대신 제한된 executor 에서 실행 (JdbcExecution)
+    private boolean asyncExecutionEnabled = false;
+    private int asyncExecutorSize = 10;
+    private int asyncExecutorQueueCapacity = 1_000;
+    private Duration asyncTimeout = Duration.ofSeconds(30);
+    //스트리밍 조회 : 한 번에 읽는 키셋 조각 크기와 JDBC 호출 전용 스케줄러 크기
+    private int streamFetchSize = 100;
+    private int streamSchedulerSize = 4;
+    private int streamSchedulerQueueCapacity = 1_000;
+    //변경 알림 : 이어받기용 보관 건수와 구독자별 버퍼 크기
+    private int changeHistorySize = 1_000;
+    private int changeBufferSize = 256;
+    //outbox 발행 : 배치 크기, 조회 주기, 파일 sink 경로
+    private int outboxBatchSize = 500;
+    private Duration outboxPollInterval = Duration.ofSeconds(1);
+    private String outboxFile = "event-outbox.ndjson";
+    //요청당 JDBC 사용량 : 진단 헤더, 스레드 할당량 측정, 넘으면 경고하는 예산
+    private boolean requestDiagnosticsEnabled = false;
+    private boolean requestAllocationTrackingEnabled = false;
+    private int requestBudgetStatements = 20;
+    private long requestBudgetRows = 1_000;
+    private Duration requestBudgetJdbcTime = Duration.ofMillis(200);
+    private long requestBudgetAllocatedBytes = 64 * 1024 * 1024;
+    //store : JDBC 저장소 + 로컬 캐시, jwt : 서명된 자체 포함 토큰
+    private String tokenMode = "store";
+    private String jwtSigningKey;
 }
@@ -0,0 +1,136 @@
+package me.dcun.demorestapi.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2RefreshToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * 리소스 서버가 요청마다 조회하는 access token 과 인증 정보를 로컬에 캐시하는 TokenStore.
+ * 저장과 삭제는 delegate 에 그대로 위임하고 캐시에서도 제거한다.
+ * 다른 노드에서 삭제된 토큰은 timeToLive 동안 이 노드에서 유효할 수 있다.
+ * 요청마다 호출되는 조회와 토큰 발급 시의 저장은 oauth2.token.store 타이머로 측정한다.
+ */
+public class CachingTokenStore implements TokenStore {
+    private final TokenStore delegate;
+    private final Cache<String, OAuth2AccessToken> accessTokens;
+    private final Cache<String, OAuth2Authentication> authentications;
+
+    public CachingTokenStore(TokenStore delegate, long maximumSize, Duration timeToLive) {
+        this.delegate = delegate;
+        this.accessTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build();
+        this.authentications = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build();
+    }
+
+    @Override
+    @Timed(value = "oauth2.token.store", histogram = true)
+    public OAuth2Authentication readAuthentication(OAuth2AccessToken token) {
+        return readAuthentication(token.getValue());
+    }
+
+    @Override
+    @Timed(value = "oauth2.token.store", histogram = true)
+    public OAuth2Authentication readAuthentication(String token) {
+        OAuth2Authentication authentication = authentications.getIfPresent(token);
+        if (authentication == null) {
+            authentication = delegate.readAuthentication(token);
+            if (authentication != null) {
+                authentications.put(token, authentication);
+            }
+        }
+        return authentication;
+    }
+
+    @Override
+    @Timed(value = "oauth2.token.store", histogram = true)
+    public void storeAccessToken(OAuth2AccessToken token, OAuth2Authentication authentication) {
+        delegate.storeAccessToken(token, authentication);
+        evict(token.getValue());
+    }
+
+    @Override
+    @Timed(value = "oauth2.token.store", histogram = true)
+    public OAuth2AccessToken readAccessToken(String tokenValue) {
+        OAuth2AccessToken accessToken = accessTokens.getIfPresent(tokenValue);
+        if (accessToken == null) {
+            accessToken = delegate.readAccessToken(tokenValue);
+            if (accessToken != null) {
+                accessTokens.put(tokenValue, accessToken);
+            }
+        }
+        return accessToken;
+    }
+
+    @Override
+    @Timed(value = "oauth2.token.store", histogram = true)
+    public void removeAccessToken(OAuth2AccessToken token) {
+        delegate.removeAccessToken(token);
+        evict(token.getValue());
+    }
+
+    @Override
+    @Timed(value = "oauth2.token.store", histogram = true)
+    public void storeRefreshToken(OAuth2RefreshToken refreshToken, OAuth2Authentication authentication) {
+        delegate.storeRefreshToken(refreshToken, authentication);
+    }
+
+    @Override
+    @Timed(value = "oauth2.token.store", histogram = true)
+    public OAuth2RefreshToken readRefreshToken(String tokenValue) {
+        return delegate.readRefreshToken(tokenValue);
+    }
+
+    @Override
+    @Timed(value = "oauth2.token.store", histogram = true)
+    public OAuth2Authentication readAuthenticationForRefreshToken(OAuth2RefreshToken token) {
+        return delegate.readAuthenticationForRefreshToken(token);
+    }
+
+    @Override
+    public void removeRefreshToken(OAuth2RefreshToken token) {
+        delegate.removeRefreshToken(token);
+    }
+
+    @Override
+    public void removeAccessTokenUsingRefreshToken(OAuth2RefreshToken refreshToken) {
+        delegate.removeAccessTokenUsingRefreshToken(refreshToken);
+        //refresh 는 드물기 때문에 캐시를 훑어서 해당 refresh token 으로 발급된 access token 을 제거
+        accessTokens.asMap().values().stream()
+                .filter(t -> t.getRefreshToken() != null && refreshToken.getValue().equals(t.getRefreshToken().getValue()))
+                .map(OAuth2AccessToken::getValue)
+                .forEach(this::evict);
+    }
+
+    @Override
+    @Timed(value = "oauth2.token.store", histogram = true)
+    public OAuth2AccessToken getAccessToken(OAuth2Authentication authentication) {
+        return delegate.getAccessToken(authentication);
+    }
+
+    @Override
+    public Collection<OAuth2AccessToken> findTokensByClientIdAndUserName(String clientId, String userName) {
+        return delegate.findTokensByClientIdAndUserName(clientId, userName);
+    }
+
+    @Override
+    public Collection<OAuth2AccessToken> findTokensByClientId(String clientId) {
+        return delegate.findTokensByClientId(clientId);
+    }
+
+    private void evict(String tokenValue) {
+        accessTokens.invalidate(tokenValue);
+        authentications.invalidate(tokenValue);
+    }
+}
@@ -0,0 +1,61 @@
+package me.dcun.demorestapi.common;
+
+/**
+ * If-None-Match / If-Match 헤더 비교.
+ */
+public final class ETags {
+    private static final String WEAK_PREFIX = "W/";
+
+    private ETags() {
+    }
+
+    public static String of(Object... parts) {
+        StringBuilder builder = new StringBuilder("\"");
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                builder.append('-');
+            }
+            builder.append(parts[i]);
+        }
+        return builder.append('"').toString();
+    }
+
+    //If-None-Match 는 약한 비교
+    public static boolean weakMatches(String header, String etag) {
+        return matches(header, etag, true);
+    }
+
+    //If-Match 는 강한 비교
+    public static boolean strongMatches(String header, String etag) {
+        return matches(header, etag, false);
+    }
+
+    private static boolean matches(String header, String etag, boolean weak) {
+        if (header == null) {
+            return false;
+        }
+        if (etag.startsWith(WEAK_PREFIX)) {
+            //약한 ETag 는 강한 비교에서 어떤 값과도 일치하지 않는다.
+            if (!weak) {
+                return false;
+            }
+            etag = etag.substring(WEAK_PREFIX.length());
+        }
+        for (String candidate : header.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.equals("*")) {
+                return true;
+            }
+            if (candidate.startsWith(WEAK_PREFIX)) {
+                if (!weak) {
+                    continue;
+                }
+                candidate = candidate.substring(WEAK_PREFIX.length());
+            }
+            if (candidate.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,69 @@
+package me.dcun.demorestapi.common;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.function.Supplier;
+
+/**
+ * 컨트롤러의 JDBC 작업을 실행한다.
+ * 비동기 실행 모드(my-app.async-execution-enabled)에서는 제한된 크기의 jdbcExecutor 에서 실행하고 {@link DeferredResult} 를 반환하므로
+ * 톰캣 요청 스레드는 바로 반환되고 MVC 비동기 처리로 응답한다. executor 큐가 가득 차거나 시간이 초과되면 503 으로 응답한다.
+ * 모드를 끄면 호출한 스레드에서 바로 실행한 ResponseEntity 를 그대로 반환한다.
+ * 컨트롤러는 반환 타입을 Object 로 선언하고, MVC 가 실제 반환 값의 타입으로 처리 방식을 고른다.
+ */
+@Component
+public class JdbcExecution {
+    private final TaskExecutor executor;
+    private final long timeoutMillis;
+
+    public JdbcExecution(@Qualifier("jdbcExecutor") ObjectProvider<TaskExecutor> jdbcExecutor,
+                         AppProperties appProperties) {
+        this.executor = appProperties.isAsyncExecutionEnabled() ? jdbcExecutor.getIfAvailable() : null;
+        this.timeoutMillis = appProperties.getAsyncTimeout().toMillis();
+    }
+
+    public Object execute(Supplier<ResponseEntity> work) {
+        if (executor == null) {
+            return work.get();
+        }
+
+        DeferredResult<ResponseEntity> result = new DeferredResult<>(timeoutMillis,
+                () -> new ResponseEntity(HttpStatus.SERVICE_UNAVAILABLE));
+        //링크 생성(ServletUriComponentsBuilder), 권한 확인(isUserInRole), 요청당 JDBC 사용량 측정이
+        //작업 스레드에서도 동작하도록 넘겨준다.
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        JdbcUsage usage = JdbcUsage.current();
+        try {
+            executor.execute(() -> {
+                RequestContextHolder.setRequestAttributes(requestAttributes);
+                SecurityContextHolder.setContext(securityContext);
+                JdbcUsage.bind(usage);
+                try {
+                    result.setResult(work.get());
+                } catch (RuntimeException e) {
+                    result.setErrorResult(e);
+                } finally {
+                    JdbcUsage.stop();
+                    SecurityContextHolder.clearContext();
+                    RequestContextHolder.resetRequestAttributes();
+                }
+            });
+        } catch (TaskRejectedException e) {
+            //반환 전에 결과가 정해지면 MVC 가 바로 디스패치한다.
+            result.setResult(new ResponseEntity(HttpStatus.SERVICE_UNAVAILABLE));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,57 @@
+package me.dcun.demorestapi.common;
+
+/**
+ * 한 요청 동안 현재 스레드에서 실행된 JDBC 문장 수, 읽은 행 수, JDBC 실행 시간.
+ * {@link JdbcUsageDataSource} 가 {@link #current()} 가 있을 때만 기록한다.
+ */
+public class JdbcUsage {
+    private static final ThreadLocal<JdbcUsage> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long rows;
+    private long nanos;
+
+    public static JdbcUsage start() {
+        JdbcUsage usage = new JdbcUsage();
+        CURRENT.set(usage);
+        return usage;
+    }
+
+    //다른 스레드에서 이어서 기록할 때 사용한다. null 이면 기록하지 않는다.
+    public static void bind(JdbcUsage usage) {
+        if (usage == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(usage);
+        }
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    public static JdbcUsage current() {
+        return CURRENT.get();
+    }
+
+    void statementExecuted(long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+    }
+
+    void rowFetched() {
+        rows++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+}
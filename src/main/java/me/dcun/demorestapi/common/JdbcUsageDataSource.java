@@ -0,0 +1,114 @@
+package me.dcun.demorestapi.common;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * 커넥션, 문장, 결과 집합을 감싸서 {@link JdbcUsage} 에 문장 실행 횟수와 시간, 읽은 행 수를 기록한다.
+ * 추적 중인 요청이 없을 때 얻은 커넥션(outbox 발행, 시작 작업 등)은 감싸지 않으므로 비용이 없다.
+ * 감싼 커넥션에서 만든 문장과 결과 집합은 모두 감싸고, 문장의 getConnection 과 결과 집합의 getStatement 는
+ * 감싼 상위 객체를 돌려주므로 호출한 쪽이 가진 객체와 동일성이 유지된다.
+ */
+public class JdbcUsageDataSource extends DelegatingDataSource {
+    private static final Set<Class<?>> PROXIED_TYPES = Set.of(
+            Statement.class, PreparedStatement.class, CallableStatement.class, ResultSet.class);
+
+    public JdbcUsageDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private static Connection track(Connection connection) {
+        return JdbcUsage.current() == null ? connection : proxy(Connection.class, connection, null);
+    }
+
+    private static <T> T proxy(Class<T> type, T target, Object parent) {
+        return type.cast(Proxy.newProxyInstance(JdbcUsageDataSource.class.getClassLoader(),
+                new Class<?>[]{type}, new UsageHandler(target, parent)));
+    }
+
+    private static class UsageHandler implements InvocationHandler {
+        private final Object target;
+        //이 객체를 만든 감싼 커넥션 또는 문장. 커넥션이면 null
+        private final Object parent;
+
+        UsageHandler(Object target, Object parent) {
+            this.target = target;
+            this.parent = parent;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            //프록시를 키로 쓰는 곳(Hibernate 의 리소스 관리 등)을 위해 동일성은 프록시 기준
+            if (name.equals("equals") && method.getParameterCount() == 1) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode") && method.getParameterCount() == 0) {
+                return System.identityHashCode(proxy);
+            }
+
+            //대상 드라이버 객체가 아닌 감싼 상위 객체를 돌려준다.
+            if (parent != null && method.getParameterCount() == 0
+                    && (name.equals("getConnection") || name.equals("getStatement"))) {
+                return invokeTarget(method, args) == null ? null : parent;
+            }
+
+            //커넥션을 얻은 뒤 추적이 끝났으면 기록만 하지 않고 하위 객체는 계속 감싼다.
+            JdbcUsage usage = JdbcUsage.current();
+            Object result;
+            if (usage != null && target instanceof Statement && name.startsWith("execute")) {
+                long start = System.nanoTime();
+                try {
+                    result = invokeTarget(method, args);
+                } finally {
+                    usage.statementExecuted(System.nanoTime() - start);
+                }
+            } else {
+                result = invokeTarget(method, args);
+            }
+
+            if (usage != null && target instanceof ResultSet && name.equals("next") && Boolean.TRUE.equals(result)) {
+                usage.rowFetched();
+            }
+            if (result != null && PROXIED_TYPES.contains(method.getReturnType())) {
+                return proxy(castType(method.getReturnType()), result, proxy);
+            }
+            return result;
+        }
+
+        private Object invokeTarget(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Class<Object> castType(Class<?> type) {
+            return (Class<Object>) type;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package me.dcun.demorestapi.common;
+
+import me.dcun.demorestapi.index.IndexController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * 컨트롤러 매핑을 매번 분석하지 않도록 host/context-path 별로 링크의 기준 href 를 캐시한다.
+ * 결과는 {@code linkTo(...)} 로 만든 href 와 동일하다.
+ */
+public final class LinkTemplates {
+    //Host 헤더로 캐시가 무한히 커지지 않도록 제한
+    private static final int MAX_CACHED_ENTRIES = 256;
+    private static final Map<String, String> cache = new ConcurrentHashMap<>();
+
+    private LinkTemplates() {
+    }
+
+    public static String controllerHref(Class<?> controller) {
+        return cached(controller.getName(), () -> linkTo(controller).withSelfRel().getHref());
+    }
+
+    public static String indexHref() {
+        return cached("index", () -> linkTo(methodOn(IndexController.class).index()).withSelfRel().getHref());
+    }
+
+    private static String cached(String name, Supplier<String> resolver) {
+        String key = ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString() + "|" + name;
+        String href = cache.get(key);
+        if (href != null) {
+            return href;
+        }
+        href = resolver.get();
+        if (cache.size() < MAX_CACHED_ENTRIES) {
+            cache.put(key, href);
+        }
+        return href;
+    }
+}
@@ -0,0 +1,30 @@
+package me.dcun.demorestapi.common;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * 엔티티마다 시퀀스를 두고 pooled optimizer 로 id 를 미리 할당받는 생성기.
+ * 할당 크기는 {@link #ALLOCATION_SIZE} 설정 값을 사용하며, DB 시퀀스의 increment 와 같아야 한다.
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+    public static final String ALLOCATION_SIZE = "my-app.id-allocation-size";
+    public static final String STRATEGY = "me.dcun.demorestapi.common.PooledSequenceGenerator";
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        Object allocationSize = serviceRegistry.getService(ConfigurationService.class)
+                .getSettings()
+                .get(ALLOCATION_SIZE);
+        if (allocationSize != null) {
+            params.setProperty(INCREMENT_PARAM, allocationSize.toString());
+        }
+        params.setProperty(OPT_PARAM, "pooled");
+        super.configure(type, params, serviceRegistry);
+    }
+}
@@ -0,0 +1,170 @@
+package me.dcun.demorestapi.common;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 API 요청마다 JDBC 사용량(문장 수, 읽은 행 수, JDBC 시간)과 선택적으로 스레드 할당 바이트를 측정한다.
+ * 측정값은 request.jdbc.* 메트릭으로 기록하고, 예산을 넘으면 경고를 남긴다.
+ * 진단 모드에서는 응답 헤더로도 내려준다. 스트리밍 응답은 다른 스레드에서 조회하므로 측정하지 않는다.
+ * 비동기 실행 모드({@link JdbcExecution})의 JDBC 사용량은 작업 스레드에서 이어서 기록하고 비동기 디스패치가 끝날 때 남긴다.
+ * 할당 바이트는 요청/디스패치 스레드의 것만 합산한다.
+ * 보안 필터보다 먼저 실행되어 토큰 저장소(JdbcTokenStore) 조회까지 포함하고,
+ * 응답 캐시 필터보다 먼저 실행되어 캐시 적중 여부와 관계없이 측정한다.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 10)
+public class RequestBudgetFilter extends OncePerRequestFilter {
+    public static final String STATEMENTS_HEADER = "X-Jdbc-Statements";
+    public static final String ROWS_HEADER = "X-Jdbc-Rows";
+    public static final String JDBC_TIME_HEADER = "X-Jdbc-Time-Millis";
+    public static final String ALLOCATED_BYTES_HEADER = "X-Allocated-Bytes";
+
+    private static final String USAGE_ATTRIBUTE = RequestBudgetFilter.class.getName() + ".USAGE";
+    private static final String ALLOCATED_ATTRIBUTE = RequestBudgetFilter.class.getName() + ".ALLOCATED";
+    private static final String RESPONSE_ATTRIBUTE = RequestBudgetFilter.class.getName() + ".RESPONSE";
+    private static final String EVENTS_PATH = "/api/events";
+    private static final List<String> STREAMING_PATHS = List.of(
+            "/api/events/stream", "/api/events/changes", "/api/events/export");
+
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+    private final MeterRegistry meterRegistry;
+    private final boolean diagnosticsEnabled;
+    private final ThreadMXBean allocationBean;
+    private final int statementBudget;
+    private final long rowBudget;
+    private final Duration jdbcTimeBudget;
+    private final long allocatedBytesBudget;
+
+    public RequestBudgetFilter(MeterRegistry meterRegistry, AppProperties appProperties) {
+        this.meterRegistry = meterRegistry;
+        this.diagnosticsEnabled = appProperties.isRequestDiagnosticsEnabled();
+        this.allocationBean = appProperties.isRequestAllocationTrackingEnabled() ? allocationBean() : null;
+        this.statementBudget = appProperties.getRequestBudgetStatements();
+        this.rowBudget = appProperties.getRequestBudgetRows();
+        this.jdbcTimeBudget = appProperties.getRequestBudgetJdbcTime();
+        this.allocatedBytesBudget = appProperties.getRequestBudgetAllocatedBytes();
+    }
+
+    //스레드별 할당량은 HotSpot 확장 API 에서만 제공한다.
+    private static ThreadMXBean allocationBean() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()) {
+            ((com.sun.management.ThreadMXBean) threadMXBean).setThreadAllocatedMemoryEnabled(true);
+            return threadMXBean;
+        }
+        return null;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = urlPathHelper.getPathWithinApplication(request);
+        return !path.startsWith(EVENTS_PATH) || STREAMING_PATHS.stream().anyMatch(path::startsWith);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean asyncDispatch = isAsyncDispatch(request);
+        //헤더는 본문보다 먼저 나가야 하므로 진단 모드에서만 본문을 모아둔다. 비동기 디스패치는 처음 감싼 응답을 이어서 쓴다.
+        ContentCachingResponseWrapper diagnosticsResponse = !diagnosticsEnabled ? null
+                : asyncDispatch ? (ContentCachingResponseWrapper) request.getAttribute(RESPONSE_ATTRIBUTE)
+                : new ContentCachingResponseWrapper(response);
+        request.setAttribute(RESPONSE_ATTRIBUTE, diagnosticsResponse);
+        long allocatedBefore = allocatedBytes();
+        JdbcUsage usage = asyncDispatch ? (JdbcUsage) request.getAttribute(USAGE_ATTRIBUTE) : null;
+        if (usage == null) {
+            usage = JdbcUsage.start();
+            request.setAttribute(USAGE_ATTRIBUTE, usage);
+        } else {
+            JdbcUsage.bind(usage);
+        }
+        try {
+            filterChain.doFilter(request, diagnosticsResponse != null ? diagnosticsResponse : response);
+        } finally {
+            JdbcUsage.stop();
+            Long previousAllocated = (Long) request.getAttribute(ALLOCATED_ATTRIBUTE);
+            long allocated = allocationBean != null
+                    ? allocatedBytes() - allocatedBefore + (previousAllocated != null ? previousAllocated : 0) : -1;
+            if (isAsyncStarted(request)) {
+                //JdbcExecution 의 작업이 끝나면 비동기 디스패치에서 기록한다.
+                request.setAttribute(ALLOCATED_ATTRIBUTE, allocated);
+            } else {
+                finish(request, usage, allocated, diagnosticsResponse);
+            }
+        }
+    }
+
+    private void finish(HttpServletRequest request, JdbcUsage usage, long allocated,
+                        ContentCachingResponseWrapper diagnosticsResponse) throws IOException {
+        record(request, usage, allocated);
+        if (diagnosticsResponse != null) {
+            diagnosticsResponse.setHeader(STATEMENTS_HEADER, String.valueOf(usage.getStatements()));
+            diagnosticsResponse.setHeader(ROWS_HEADER, String.valueOf(usage.getRows()));
+            diagnosticsResponse.setHeader(JDBC_TIME_HEADER,
+                    String.valueOf(TimeUnit.NANOSECONDS.toMillis(usage.getNanos())));
+            if (allocated >= 0) {
+                diagnosticsResponse.setHeader(ALLOCATED_BYTES_HEADER, String.valueOf(allocated));
+            }
+            diagnosticsResponse.copyBodyToResponse();
+        }
+    }
+
+    private void record(HttpServletRequest request, JdbcUsage usage, long allocated) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", pattern != null ? pattern.toString() : "NONE");
+        DistributionSummary.builder("request.jdbc.statements").tags(tags).register(meterRegistry)
+                .record(usage.getStatements());
+        DistributionSummary.builder("request.jdbc.rows").tags(tags).register(meterRegistry)
+                .record(usage.getRows());
+        Timer.builder("request.jdbc.time").tags(tags).register(meterRegistry)
+                .record(usage.getNanos(), TimeUnit.NANOSECONDS);
+        if (allocated >= 0) {
+            DistributionSummary.builder("request.allocated").baseUnit("bytes").tags(tags).register(meterRegistry)
+                    .record(allocated);
+        }
+
+        boolean overBudget = usage.getStatements() > statementBudget
+                || usage.getRows() > rowBudget
+                || usage.getNanos() > jdbcTimeBudget.toNanos()
+                || (allocated >= 0 && allocated > allocatedBytesBudget);
+        if (overBudget && logger.isWarnEnabled()) {
+            logger.warn(String.format("Request budget exceeded: %s %s statements=%d rows=%d jdbcTime=%dms allocated=%d",
+                    request.getMethod(), request.getRequestURI(), usage.getStatements(), usage.getRows(),
+                    TimeUnit.NANOSECONDS.toMillis(usage.getNanos()), allocated));
+        }
+    }
+
+    private long allocatedBytes() {
+        if (allocationBean == null) {
+            return 0;
+        }
+        return ((com.sun.management.ThreadMXBean) allocationBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
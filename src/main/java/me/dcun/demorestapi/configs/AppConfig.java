@@ -2,16 +2,21 @@ package me.dcun.demorestapi.configs;
 
 import me.dcun.demorestapi.accounts.Account;
 import me.dcun.demorestapi.accounts.AccountRole;
+import me.dcun.demorestapi.accounts.AccountRepository;
 import me.dcun.demorestapi.accounts.AccountService;
 import me.dcun.demorestapi.common.AppProperties;
+import me.dcun.demorestapi.common.PooledSequenceGenerator;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.Set;
 
@@ -22,6 +27,18 @@ public class AppConfig {
         return new ModelMapper();
     }
 
+    @Bean
+    public HibernatePropertiesCustomizer idAllocationSizeCustomizer(AppProperties appProperties) {
+        return properties -> properties.put(PooledSequenceGenerator.ALLOCATION_SIZE, appProperties.getIdAllocationSize());
+    }
+
+    //스트리밍 조회에서 블로킹 JDBC 호출만 실행하는 스케줄러
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jdbcScheduler(AppProperties appProperties) {
+        return Schedulers.newBoundedElastic(appProperties.getStreamSchedulerSize(),
+                appProperties.getStreamSchedulerQueueCapacity(), "jdbc-read");
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return PasswordEncoderFactories.createDelegatingPasswordEncoder();
@@ -33,11 +50,18 @@ public class AppConfig {
             @Autowired
             AccountService accountService;
 
+            @Autowired
+            AccountRepository accountRepository;
+
             @Autowired
             AppProperties appProperties;
 
             @Override
             public void run(ApplicationArguments args) throws Exception {
+                //스키마가 재시작 후에도 유지되므로 이미 있는 관리자 계정은 다시 만들지 않는다. (email 유니크 인덱스)
+                if (accountRepository.findByEmail(appProperties.getAdminUsername()).isPresent()) {
+                    return;
+                }
                 Account account = Account.builder()
                         .email(appProperties.getAdminUsername())
                         .password(appProperties.getAdminPassword())
@@ -0,0 +1,30 @@
+package me.dcun.demorestapi.configs;
+
+import me.dcun.demorestapi.common.AppProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+//JdbcExecution 이 컨트롤러의 JDBC 작업을 이 executor 에서 실행한다.
+@Configuration
+@ConditionalOnProperty(prefix = "my-app", name = "async-execution-enabled", havingValue = "true")
+public class AsyncExecutionConfig {
+    @Bean
+    public ThreadPoolTaskExecutor jdbcExecutor(AppProperties appProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(appProperties.getAsyncExecutorSize());
+        executor.setMaxPoolSize(appProperties.getAsyncExecutorSize());
+        executor.setQueueCapacity(appProperties.getAsyncExecutorQueueCapacity());
+        executor.setThreadNamePrefix("jdbc-");
+        return executor;
+    }
+
+    //Executor 빈이 생기면 부트의 기본 실행기가 만들어지지 않으므로 MVC 비동기 처리(Flux 응답 등)용으로 직접 등록한다.
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+        return builder.build();
+    }
+}
@@ -0,0 +1,25 @@
+package me.dcun.demorestapi.configs;
+
+import me.dcun.demorestapi.common.JdbcUsageDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class JdbcUsageConfig {
+    //JPA, JdbcTokenStore 모두 같은 DataSource 를 사용하므로 요청당 JDBC 사용량에 함께 잡힌다.
+    @Bean
+    public static BeanPostProcessor jdbcUsageDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof JdbcUsageDataSource)) {
+                    return new JdbcUsageDataSource((DataSource) bean);
+                }
+                return bean;
+            }
+        };
+    }
+}
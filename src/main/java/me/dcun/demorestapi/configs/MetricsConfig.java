@@ -0,0 +1,33 @@
+package me.dcun.demorestapi.configs;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import me.dcun.demorestapi.accounts.AccountService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+    //EventMapper, AccountService, CachingTokenStore 의 @Timed 를 처리
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public MeterBinder principalCacheMetrics(AccountService accountService) {
+        return registry -> {
+            FunctionCounter.builder("cache.gets", accountService, s -> s.principalCacheStats().hitCount())
+                    .tags("cache", "principal", "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("cache.gets", accountService, s -> s.principalCacheStats().missCount())
+                    .tags("cache", "principal", "result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("cache.evictions", accountService, s -> s.principalCacheStats().evictionCount())
+                    .tags("cache", "principal")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package me.dcun.demorestapi.configs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.dcun.demorestapi.common.AppProperties;
+import me.dcun.demorestapi.events.EventOutboxSink;
+import me.dcun.demorestapi.events.FileEventOutboxSink;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.nio.file.Path;
+
+@Configuration
+@EnableScheduling
+public class OutboxConfig {
+    @Bean
+    public EventOutboxSink eventOutboxSink(AppProperties appProperties, ObjectMapper objectMapper) {
+        return new FileEventOutboxSink(Path.of(appProperties.getOutboxFile()), objectMapper);
+    }
+}
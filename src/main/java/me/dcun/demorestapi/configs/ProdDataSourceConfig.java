@@ -0,0 +1,31 @@
+package me.dcun.demorestapi.configs;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@Profile("prod")
+public class ProdDataSourceConfig {
+    private static final String MAXIMUM_POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+
+    //HikariCP 권장식(코어 수 * 2 + 1)으로 고정 크기 풀을 만든다. 명시한 설정이 있으면 그대로 둔다.
+    @Bean
+    public static BeanPostProcessor hikariPoolSizePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource && !environment.containsProperty(MAXIMUM_POOL_SIZE)) {
+                    HikariDataSource dataSource = (HikariDataSource) bean;
+                    int size = Runtime.getRuntime().availableProcessors() * 2 + 1;
+                    dataSource.setMaximumPoolSize(size);
+                    dataSource.setMinimumIdle(size);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package me.dcun.demorestapi.configs;
 
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -24,6 +25,8 @@ public class ResourceServerConfig extends ResourceServerConfigurerAdapter {
             .authorizeRequests()
                 .mvcMatchers(HttpMethod.GET, "/api/**")
                     .permitAll()
+                .requestMatchers(EndpointRequest.to("health", "prometheus"))
+                    .permitAll()
                 .anyRequest()
                     .authenticated()
             .and()
@@ -1,7 +1,11 @@
 package me.dcun.demorestapi.configs;
 
 import me.dcun.demorestapi.accounts.AccountService;
+import me.dcun.demorestapi.accounts.AccountUserAuthenticationConverter;
+import me.dcun.demorestapi.common.AppProperties;
+import me.dcun.demorestapi.common.CachingTokenStore;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,21 +15,71 @@ import org.springframework.security.config.annotation.web.builders.WebSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.provider.token.DefaultAccessTokenConverter;
 import org.springframework.security.oauth2.provider.token.TokenStore;
-import org.springframework.security.oauth2.provider.token.store.InMemoryTokenStore;
+import org.springframework.security.oauth2.provider.token.store.JdbcTokenStore;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
+    //HMAC-SHA256 키 길이
+    static final int MIN_JWT_SIGNING_KEY_BYTES = 32;
+    //예전에 저장소에 들어 있던 기본값. 누구나 알고 있으므로 사용할 수 없다.
+    static final String PLACEHOLDER_JWT_SIGNING_KEY = "demo-rest-api-jwt-signing-key-change-me";
+
     @Autowired
     AccountService accountService;
 
     @Autowired
     PasswordEncoder passwordEncoder;
 
+    @Autowired
+    AppProperties appProperties;
+
     @Bean
-    public TokenStore tokenStore() {
-        return new InMemoryTokenStore();
+    @ConditionalOnProperty(prefix = "my-app", name = "token-mode", havingValue = "store", matchIfMissing = true)
+    public TokenStore tokenStore(DataSource dataSource) {
+        return new CachingTokenStore(new JdbcTokenStore(dataSource),
+                appProperties.getTokenCacheMaximumSize(),
+                appProperties.getTokenCacheTimeToLive());
+    }
+
+    //서명된 토큰 자체로 인증 정보를 검증하므로 요청마다 저장소를 조회하지 않는다.
+    @Bean
+    @ConditionalOnProperty(prefix = "my-app", name = "token-mode", havingValue = "jwt")
+    public JwtAccessTokenConverter accessTokenConverter() {
+        DefaultAccessTokenConverter accessTokenConverter = new DefaultAccessTokenConverter();
+        accessTokenConverter.setUserTokenConverter(new AccountUserAuthenticationConverter());
+        JwtAccessTokenConverter jwtAccessTokenConverter = new JwtAccessTokenConverter();
+        jwtAccessTokenConverter.setSigningKey(requireJwtSigningKey(appProperties.getJwtSigningKey()));
+        jwtAccessTokenConverter.setAccessTokenConverter(accessTokenConverter);
+        return jwtAccessTokenConverter;
+    }
+
+    //키를 아는 사람은 누구나 유효한 토큰을 만들 수 있으므로 약한 키로는 시작하지 않는다.
+    static String requireJwtSigningKey(String signingKey) {
+        if (signingKey == null || signingKey.isBlank()) {
+            throw new IllegalStateException("my-app.jwt-signing-key is required when my-app.token-mode=jwt");
+        }
+        if (signingKey.equals(PLACEHOLDER_JWT_SIGNING_KEY)) {
+            throw new IllegalStateException("my-app.jwt-signing-key must not be the published placeholder");
+        }
+        if (signingKey.getBytes(StandardCharsets.UTF_8).length < MIN_JWT_SIGNING_KEY_BYTES) {
+            throw new IllegalStateException(
+                    "my-app.jwt-signing-key must be at least " + MIN_JWT_SIGNING_KEY_BYTES + " bytes");
+        }
+        return signingKey;
+    }
+
+    @Bean(name = "tokenStore")
+    @ConditionalOnProperty(prefix = "my-app", name = "token-mode", havingValue = "jwt")
+    public TokenStore jwtTokenStore(JwtAccessTokenConverter accessTokenConverter) {
+        return new JwtTokenStore(accessTokenConverter);
     }
 
     @Bean
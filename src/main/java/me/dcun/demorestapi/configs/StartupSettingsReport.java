@@ -0,0 +1,68 @@
+package me.dcun.demorestapi.configs;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 시작 시 실제로 적용된 커넥션 풀과 Hibernate 설정을 한 번 로그로 남긴다.
+ */
+@Component
+public class StartupSettingsReport {
+    private static final Log logger = LogFactory.getLog(StartupSettingsReport.class);
+
+    private final Environment environment;
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public StartupSettingsReport(Environment environment, DataSource dataSource,
+                                 EntityManagerFactory entityManagerFactory) {
+        this.environment = environment;
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+        Map<String, Object> jpa = entityManagerFactory.getProperties();
+        StringBuilder report = new StringBuilder("Effective settings")
+                .append("\n  profiles: ").append(Arrays.toString(environment.getActiveProfiles()))
+                .append("\n  cores: ").append(Runtime.getRuntime().availableProcessors());
+        HikariDataSource hikari = hikari();
+        if (hikari != null) {
+            report.append("\n  hikari.maximumPoolSize: ").append(hikari.getMaximumPoolSize())
+                    .append("\n  hikari.minimumIdle: ").append(hikari.getMinimumIdle())
+                    .append("\n  hikari.autoCommit: ").append(hikari.isAutoCommit())
+                    .append("\n  hikari.dataSourceProperties: ").append(hikari.getDataSourceProperties());
+        }
+        report.append("\n  jpa.openInView: ").append(environment.getProperty("spring.jpa.open-in-view", "true"))
+                .append("\n  hibernate.hbm2ddl.auto: ").append(jpa.get("hibernate.hbm2ddl.auto"))
+                .append("\n  hibernate.jdbc.batch_size: ").append(jpa.get("hibernate.jdbc.batch_size"))
+                .append("\n  hibernate.order_inserts: ").append(jpa.get("hibernate.order_inserts"))
+                .append("\n  hibernate.order_updates: ").append(jpa.get("hibernate.order_updates"))
+                .append("\n  hibernate.cache.use_second_level_cache: ")
+                .append(jpa.get("hibernate.cache.use_second_level_cache"));
+        logger.info(report);
+    }
+
+    private HikariDataSource hikari() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package me.dcun.demorestapi.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일괄 생성 요청의 검증용 래퍼. 에러의 field 가 events[index].name 형태가 되어 몇 번째 항목인지 알 수 있다.
+ */
+@Getter
+@AllArgsConstructor
+public class BulkEventDto {
+    private List<EventDto> events;
+}
@@ -1,9 +1,17 @@
 package me.dcun.demorestapi.events;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.*;
 import me.dcun.demorestapi.accounts.Account;
 import me.dcun.demorestapi.accounts.AccountSerializer;
+import me.dcun.demorestapi.common.ETags;
+import me.dcun.demorestapi.common.PooledSequenceGenerator;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -11,8 +19,25 @@ import java.time.LocalDateTime;
 @Builder @AllArgsConstructor @NoArgsConstructor
 @Getter @Setter @EqualsAndHashCode(of = "id")
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(indexes = {
+        @Index(name = "idx_event_begin_event_date_time_id", columnList = "beginEventDateTime, id"),
+        @Index(name = "idx_event_status_begin_event_date_time", columnList = "eventStatus, beginEventDateTime"),
+        @Index(name = "idx_event_free_offline_begin_event_date_time", columnList = "free, offline, beginEventDateTime"),
+        @Index(name = "idx_event_location_begin_event_date_time", columnList = "location, beginEventDateTime"),
+        @Index(name = "idx_event_base_price", columnList = "basePrice"),
+        @Index(name = "idx_event_enrollment_date_time", columnList = "beginEnrollmentDateTime, closeEnrollmentDateTime"),
+        @Index(name = "idx_event_end_event_date_time", columnList = "endEventDateTime"),
+        @Index(name = "idx_event_manager_id_begin_event_date_time_id", columnList = "manager_id, beginEventDateTime, id")
+})
 public class Event {
-    @Id @GeneratedValue
+    private static final String MANAGER_VIEW = "m";
+
+    @Id
+    @GeneratedValue(generator = "event_seq")
+    @GenericGenerator(name = "event_seq", strategy = PooledSequenceGenerator.STRATEGY,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "event_seq"))
     private Integer id;
     private String name;
     private String description;
@@ -28,7 +53,10 @@ public class Event {
     private boolean free;
     @Enumerated(EnumType.STRING)
     private EventStatus eventStatus = EventStatus.DRAFT;
-    @ManyToOne
+    @Version
+    @JsonIgnore
+    private Integer version;
+    @ManyToOne(fetch = FetchType.LAZY)
     @JsonSerialize(using = AccountSerializer.class)
     private Account manager;
 
@@ -36,4 +64,19 @@ public class Event {
         this.free = (this.basePrice == 0 && this.maxPrice == 0);
         this.offline = (!(this.location == null || this.location.isBlank()));
     }
+
+    //강한 ETag : 버전이 같으면 같은 상태이다.
+    public String etag() {
+        return ETags.of(this.id, this.version);
+    }
+
+    //조회 응답 ETag : 관리자에게는 update-event 링크가 붙은 다른 표현이 나가므로 구분한다.
+    public String etag(Account viewer) {
+        return isManagedBy(viewer) ? ETags.of(this.id, this.version, MANAGER_VIEW) : etag();
+    }
+
+    //manager 프록시를 초기화하지 않도록 id 만 비교
+    public boolean isManagedBy(Account account) {
+        return account != null && this.manager != null && this.manager.getId().equals(account.getId());
+    }
 }
@@ -0,0 +1,89 @@
+package me.dcun.demorestapi.events;
+
+import lombok.Getter;
+import me.dcun.demorestapi.common.AppProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 커밋된 {@link EventChanged} 를 연결된 구독자에게 전달한다.
+ * 각 변경에는 1 씩 증가하는 id 를 붙이고 최근 changeHistorySize 건을 보관하여 마지막으로 받은 id 이후부터 다시 받을 수 있다.
+ * 구독자마다 changeBufferSize 크기의 버퍼를 두고, 느린 구독자의 버퍼가 차면 가장 오래된 변경을 버린다.
+ * 발행하는 스레드는 구독자의 응답 쓰기를 기다리지 않는다.
+ */
+@Component
+public class EventChangeBroadcaster {
+    private final Object lock = new Object();
+    private final Deque<Change> history = new ArrayDeque<>();
+    private final Set<FluxSink<Change>> subscribers = new CopyOnWriteArraySet<>();
+    private final AtomicLong dropped = new AtomicLong();
+    private final int historySize;
+    private final int bufferSize;
+    private long sequence;
+
+    public EventChangeBroadcaster(AppProperties appProperties) {
+        this.historySize = appProperties.getChangeHistorySize();
+        this.bufferSize = appProperties.getChangeBufferSize();
+    }
+
+    //트랜잭션 안에서 발행되면 커밋 이후에, 트랜잭션 밖이면(저장소 호출이 이미 커밋된 경우) 바로 전달한다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChanged eventChanged) {
+        synchronized (lock) {
+            Change change = new Change(++sequence, eventChanged);
+            history.addLast(change);
+            if (history.size() > historySize) {
+                history.removeFirst();
+            }
+            subscribers.forEach(subscriber -> subscriber.next(change));
+        }
+    }
+
+    /**
+     * @param lastChangeId 마지막으로 받은 변경 id. null 이면 이후 변경만 받는다.
+     */
+    public Flux<Change> subscribe(Long lastChangeId) {
+        Flux<Change> changes = Flux.create(sink -> {
+            //보관 중인 변경을 넘기고 구독자를 등록하는 사이에 발행된 변경이 빠지거나 중복되지 않도록 같은 잠금을 사용
+            synchronized (lock) {
+                if (lastChangeId != null) {
+                    history.stream()
+                            .filter(change -> change.getId() > lastChangeId)
+                            .forEach(sink::next);
+                }
+                subscribers.add(sink);
+            }
+            sink.onDispose(() -> subscribers.remove(sink));
+        });
+        return changes.onBackpressureBuffer(bufferSize, change -> dropped.incrementAndGet(),
+                BufferOverflowStrategy.DROP_OLDEST);
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    @Getter
+    public static class Change {
+        private final long id;
+        private final EventChanged event;
+
+        Change(long id, EventChanged event) {
+            this.id = id;
+            this.event = event;
+        }
+    }
+}
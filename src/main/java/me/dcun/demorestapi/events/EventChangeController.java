@@ -0,0 +1,42 @@
+package me.dcun.demorestapi.events;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * 목록을 주기적으로 다시 조회하는 대신 이벤트 생성/수정 알림을 서버 전송 이벤트로 받는다.
+ * 연결이 끊기면 브라우저 EventSource 가 Last-Event-ID 헤더로 마지막 id 를 보내 이어서 받는다.
+ */
+@RestController
+@RequestMapping("/api/events/changes")
+public class EventChangeController {
+    private final EventChangeBroadcaster eventChangeBroadcaster;
+
+    public EventChangeController(EventChangeBroadcaster eventChangeBroadcaster) {
+        this.eventChangeBroadcaster = eventChangeBroadcaster;
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<EventChanged>>> streamChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        Long lastChangeId;
+        try {
+            lastChangeId = lastEventId == null ? null : Long.valueOf(lastEventId);
+        } catch (NumberFormatException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Flux<ServerSentEvent<EventChanged>> changes = eventChangeBroadcaster.subscribe(lastChangeId)
+                .map(change -> ServerSentEvent.builder(change.getEvent())
+                        .id(String.valueOf(change.getId()))
+                        .event(change.getEvent().getType().name().toLowerCase())
+                        .build());
+        return ResponseEntity.ok(changes);
+    }
+}
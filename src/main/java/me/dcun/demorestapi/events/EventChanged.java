@@ -0,0 +1,32 @@
+package me.dcun.demorestapi.events;
+
+import lombok.Getter;
+
+/**
+ * 이벤트가 생성되거나 수정되었음을 알리는 도메인 이벤트.
+ * 변경 내용은 담지 않으므로 구독자는 필요할 때 eventId 로 다시 조회한다.
+ */
+@Getter
+public class EventChanged {
+    public enum Type {
+        CREATED, UPDATED
+    }
+
+    private final Type type;
+    private final Integer eventId;
+    private final Integer version;
+
+    public EventChanged(Type type, Integer eventId, Integer version) {
+        this.type = type;
+        this.eventId = eventId;
+        this.version = version;
+    }
+
+    public static EventChanged created(Event event) {
+        return new EventChanged(Type.CREATED, event.getId(), event.getVersion());
+    }
+
+    public static EventChanged updated(Event event) {
+        return new EventChanged(Type.UPDATED, event.getId(), event.getVersion());
+    }
+}
@@ -1,39 +1,78 @@
 package me.dcun.demorestapi.events;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import me.dcun.demorestapi.accounts.Account;
+import me.dcun.demorestapi.accounts.AccountRole;
 import me.dcun.demorestapi.accounts.CurrentUser;
+import me.dcun.demorestapi.common.ETags;
 import me.dcun.demorestapi.common.ErrorsResource;
-import org.modelmapper.ModelMapper;
+import me.dcun.demorestapi.common.JdbcExecution;
+import me.dcun.demorestapi.common.LinkTemplates;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MediaTypes;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Controller;
+import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.Errors;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.Validator;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
-
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import java.util.stream.Collectors;
 
 @Controller
 @RequestMapping(value = "/api/events", produces = MediaTypes.HAL_JSON_VALUE)
 public class EventController {
 
+    private static final int MAX_SCROLL_SIZE = 100;
+    private static final int MAX_BULK_SIZE = 1000;
+    private static final String CURRENT_MANAGER = "me";
+
     private final EventRepository eventRepository;
-    private final ModelMapper modelMapper;
+    private final EventMapper eventMapper;
     private final EventValidator eventValidator;
+    private final SpringValidatorAdapter beanValidator;
+    private final EventExporter eventExporter;
+    private final EventResponseCache eventResponseCache;
+    private final EventService eventService;
+    private final MeterRegistry meterRegistry;
+    private final JdbcExecution jdbcExecution;
 
-    public EventController(EventRepository eventRepository, ModelMapper modelMapper, EventValidator eventValidator) {
+    public EventController(EventRepository eventRepository, EventMapper eventMapper, EventValidator eventValidator,
+                           Validator beanValidator, EventExporter eventExporter, EventResponseCache eventResponseCache,
+                           EventService eventService, MeterRegistry meterRegistry, JdbcExecution jdbcExecution) {
         this.eventRepository = eventRepository;
-        this.modelMapper = modelMapper;
+        this.eventMapper = eventMapper;
         this.eventValidator = eventValidator;
+        this.beanValidator = new SpringValidatorAdapter(beanValidator);
+        this.eventExporter = eventExporter;
+        this.eventResponseCache = eventResponseCache;
+        this.eventService = eventService;
+        this.meterRegistry = meterRegistry;
+        this.jdbcExecution = jdbcExecution;
     }
 
     @PostMapping
@@ -49,54 +88,274 @@ public class EventController {
             return badRequest(errors);
         }
 
-        Event event = modelMapper.map(eventDto, Event.class);
+        Event event = eventMapper.toEvent(eventDto);
         event.setManager(currentUser);
         event.update(); //free, offline 설정
 
-        Event newEvent = this.eventRepository.save(event);
-        WebMvcLinkBuilder selfLinkBuilder = linkTo(EventController.class).slash(newEvent.getId());
-        URI createUri = selfLinkBuilder.toUri();
+        Event newEvent = this.eventService.createEvent(event);
+        this.eventResponseCache.invalidateAll();
+        String selfHref = eventsHref() + "/" + newEvent.getId();
+        URI createUri = URI.create(selfHref);
         EventResource eventResource = new EventResource(event);
-        eventResource.add(linkTo(EventController.class).withRel("query-events"));
-        eventResource.add(selfLinkBuilder.withRel("update-event"));
+        eventResource.add(Link.of(eventsHref()).withRel("query-events"));
+        eventResource.add(Link.of(selfHref).withRel("update-event"));
         eventResource.add(Link.of("/docs/index.html#resources-events-create").withRel("profile"));
         return ResponseEntity.created(createUri).body(eventResource);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity createEvents(@RequestBody List<EventDto> eventDtos,
+                                       @CurrentUser Account currentUser) {
+        BulkEventDto bulkEventDto = new BulkEventDto(eventDtos);
+        Errors errors = new BeanPropertyBindingResult(bulkEventDto, "bulkEventDto");
+        if (eventDtos.isEmpty() || eventDtos.size() > MAX_BULK_SIZE) {
+            errors.reject("wrongSize", "Size of events must be between 1 and " + MAX_BULK_SIZE);
+            return badRequest(errors);
+        }
+
+        for (int i = 0; i < eventDtos.size(); i++) {
+            EventDto eventDto = eventDtos.get(i);
+            //[null] 같은 항목은 검증기에 넘길 수 없으므로 항목 자체를 에러로 응답
+            if (eventDto == null) {
+                errors.rejectValue("events[" + i + "]", "required", "Event must not be null");
+                continue;
+            }
+            errors.pushNestedPath("events[" + i + "]");
+            int errorCount = errors.getErrorCount();
+            beanValidator.validate(eventDto, errors);
+            //필수 값이 없으면 날짜 비교를 할 수 없으므로 Bean Validation 을 통과한 항목만 검사
+            if (errors.getErrorCount() == errorCount) {
+                eventValidator.validate(eventDto, errors);
+            }
+            errors.popNestedPath();
+        }
+        if (errors.hasErrors()) {
+            return badRequest(errors);
+        }
+
+        List<Event> events = eventDtos.stream()
+                .map(eventDto -> {
+                    Event event = eventMapper.toEvent(eventDto);
+                    event.setManager(currentUser);
+                    event.update();
+                    return event;
+                })
+                .collect(Collectors.toList());
+        //pooled 시퀀스와 hibernate.jdbc.batch_size 로 insert 가 배치로 나간다.
+        List<Event> newEvents = this.eventService.createEvents(events);
+        this.eventResponseCache.invalidateAll();
+        List<EventResource> eventResources = newEvents.stream()
+                .map(EventResource::new)
+                .collect(Collectors.toList());
+        var collectionModel = CollectionModel.of(eventResources);
+        collectionModel.add(Link.of(eventsHref()).withRel("query-events"));
+        collectionModel.add(Link.of("/docs/index.html#resources-events-bulk-create").withRel("profile"));
+        return ResponseEntity.status(HttpStatus.CREATED).body(collectionModel);
+    }
+
+    //조회는 JdbcExecution 을 거치므로 비동기 실행 모드에서는 DeferredResult 를 반환한다.
     @GetMapping
-    public ResponseEntity queryEvents(Pageable pageable,
-                                      PagedResourcesAssembler<Event> pagedResourcesAssembler,
-                                      @CurrentUser Account currentUser) {
-        Page<Event> page = this.eventRepository.findAll(pageable);
-        var entityModels = pagedResourcesAssembler.toModel(page, EventResource::new);
-        entityModels.add(Link.of("/docs/index.html#resources-events-list").withRel("profile"));
+    public Object queryEvents(EventSearchCondition condition,
+                                      @RequestParam(required = false) String manager,
+                                      Pageable pageable,
+                                      PagedResourcesAssembler<EventSummary> pagedResourcesAssembler,
+                                      @CurrentUser Account currentUser,
+                                      HttpServletRequest request) {
+        return this.jdbcExecution.execute(() -> {
+            if (manager != null) {
+                //manager 조회는 다른 검색 조건을 적용하지 않으므로 조용히 무시하지 않고 거절한다.
+                if (!condition.isEmpty()) {
+                    Errors errors = new BeanPropertyBindingResult(condition, "eventSearchCondition");
+                    errors.reject("conflictingCondition", "manager cannot be combined with other search conditions");
+                    return badRequest(errors);
+                }
+                return queryEventsByManager(manager, pageable, pagedResourcesAssembler, currentUser, request);
+            }
+
+            Page<EventSummary> page = this.eventRepository.findSummaries(EventSpecifications.of(condition), pageable);
+            String baseHref = eventsHref();
+            var entityModels = pagedResourcesAssembler.toModel(page, e -> new EventSummaryResource(e, baseHref));
+            entityModels.add(Link.of("/docs/index.html#resources-events-list").withRel("profile"));
+            if (currentUser != null) {
+                entityModels.add(Link.of(eventsHref()).withRel("create-event"));
+            }
+            //create-event 링크가 인증 여부에 따라 다르므로 Vary: Authorization
+            return ResponseEntity.ok()
+                    .varyBy(HttpHeaders.AUTHORIZATION)
+                    .body(entityModels);
+        });
+    }
+
+    //manager=me 또는 manager={accountId}(관리자) : 다른 검색 조건과 함께 쓰지 않는다.
+    private ResponseEntity queryEventsByManager(String manager,
+                                                Pageable pageable,
+                                                PagedResourcesAssembler<EventSummary> pagedResourcesAssembler,
+                                                Account currentUser,
+                                                HttpServletRequest request) {
+        if (currentUser == null) {
+            return new ResponseEntity(HttpStatus.UNAUTHORIZED);
+        }
+
+        Integer managerId;
+        if (CURRENT_MANAGER.equals(manager)) {
+            managerId = currentUser.getId();
+        } else {
+            try {
+                managerId = Integer.valueOf(manager);
+            } catch (NumberFormatException e) {
+                return ResponseEntity.badRequest().build();
+            }
+            //다른 계정의 목록은 관리자만 조회할 수 있다.
+            if (!managerId.equals(currentUser.getId()) && !request.isUserInRole(AccountRole.ADMIN.name())) {
+                return new ResponseEntity(HttpStatus.FORBIDDEN);
+            }
+        }
+
+        //정렬을 지정하지 않으면 (manager_id, beginEventDateTime, id) 인덱스 순서를 그대로 따른다.
+        Pageable sortedPageable = pageable.getSort().isSorted()
+                ? pageable
+                : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("beginEventDateTime", "id"));
+        Page<EventSummary> page = this.eventRepository.findSummariesByManagerId(managerId, sortedPageable);
+        //수정은 manager 본인만 가능하므로 Account 를 읽지 않고 id 비교 한 번으로 링크를 정한다.
+        boolean updatable = managerId.equals(currentUser.getId());
+        String baseHref = eventsHref();
+        var entityModels = pagedResourcesAssembler.toModel(page, e -> new EventSummaryResource(e, baseHref, updatable));
+        entityModels.add(Link.of("/docs/index.html#resources-events-list-by-manager").withRel("profile"));
+        entityModels.add(Link.of(eventsHref()).withRel("create-event"));
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .body(entityModels);
+    }
+
+    @GetMapping("/scroll")
+    public Object scrollEvents(@RequestParam(required = false) String after,
+                               @RequestParam(required = false) String before,
+                               @RequestParam(defaultValue = "20") int size,
+                               @CurrentUser Account currentUser) {
+        return this.jdbcExecution.execute(() -> scrollSlice(after, before, size, currentUser));
+    }
+
+    private ResponseEntity scrollSlice(String after, String before, int size, Account currentUser) {
+        if (after != null && before != null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        EventCursor cursor;
+        try {
+            cursor = after != null ? EventCursor.decode(after) : before != null ? EventCursor.decode(before) : null;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        int sliceSize = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+        //다음 페이지 존재 여부를 count 쿼리 없이 알기 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, sliceSize + 1);
+        List<Event> events;
+        boolean hasNext;
+        boolean hasPrev;
+        if (before != null) {
+            events = new ArrayList<>(this.eventRepository.findSliceBefore(cursor.getBeginEventDateTime(), cursor.getId(), limit));
+            hasPrev = events.size() > sliceSize;
+            hasNext = true;
+            events = events.subList(0, Math.min(events.size(), sliceSize));
+            Collections.reverse(events);
+        } else {
+            events = cursor == null
+                    ? this.eventRepository.findFirstSlice(limit)
+                    : this.eventRepository.findSliceAfter(cursor.getBeginEventDateTime(), cursor.getId(), limit);
+            hasNext = events.size() > sliceSize;
+            hasPrev = cursor != null;
+            events = events.subList(0, Math.min(events.size(), sliceSize));
+        }
+
+        List<EventResource> eventResources = events.stream().map(EventResource::new).collect(Collectors.toList());
+        var collectionModel = CollectionModel.of(eventResources);
+        collectionModel.add(before != null
+                ? scrollLink("before", before, sliceSize).withSelfRel()
+                : scrollLink("after", after, sliceSize).withSelfRel());
+        if (hasNext && !events.isEmpty()) {
+            String next = EventCursor.of(events.get(events.size() - 1)).encode();
+            collectionModel.add(scrollLink("after", next, sliceSize).withRel(IanaLinkRelations.NEXT));
+        }
+        if (hasPrev && !events.isEmpty()) {
+            String prev = EventCursor.of(events.get(0)).encode();
+            collectionModel.add(scrollLink("before", prev, sliceSize).withRel(IanaLinkRelations.PREV));
+        }
+        collectionModel.add(Link.of("/docs/index.html#resources-events-scroll").withRel("profile"));
         if (currentUser != null) {
-            entityModels.add(linkTo(EventController.class).withRel("create-event"));
+            collectionModel.add(Link.of(eventsHref()).withRel("create-event"));
+        }
+        return ResponseEntity.ok(collectionModel);
+    }
+
+    private Link scrollLink(String cursorName, String cursor, int size) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(eventsHref() + "/scroll");
+        if (cursor != null) {
+            builder.queryParam(cursorName, cursor);
+        }
+        builder.queryParam("size", size);
+        return Link.of(builder.toUriString());
+    }
+
+    @GetMapping(value = "/export", produces = {"application/x-ndjson", "text/csv"})
+    public void exportEvents(@RequestParam(defaultValue = "ndjson") String format,
+                             HttpServletResponse response) throws IOException {
+        EventExportFormat exportFormat;
+        try {
+            exportFormat = EventExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpStatus.BAD_REQUEST.value());
+            return;
         }
-        return ResponseEntity.ok(entityModels);
+
+        response.setContentType(exportFormat.getMediaType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("events." + exportFormat.getExtension())
+                .build()
+                .toString());
+        this.eventExporter.export(exportFormat, response.getOutputStream());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity getEvent(@PathVariable Integer id,
-                                   @CurrentUser Account currentUser) {
+    public Object getEvent(@PathVariable Integer id,
+                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                           @CurrentUser Account currentUser) {
+        return this.jdbcExecution.execute(() -> findEvent(id, ifNoneMatch, currentUser));
+    }
+
+    private ResponseEntity findEvent(Integer id, String ifNoneMatch, Account currentUser) {
         Optional<Event> optionalEvent = this.eventRepository.findById(id);
         if (optionalEvent.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
 
         Event event = optionalEvent.get();
+        //update-event 링크가 사용자에 따라 다르므로 표현마다 ETag 를 나누고 Vary: Authorization
+        String etag = event.etag(currentUser);
+        if (ETags.weakMatches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .varyBy(HttpHeaders.AUTHORIZATION)
+                    .build();
+        }
+
         EventResource eventResource = new EventResource(event);
         eventResource.add(Link.of("/docs/index.html#resources-events-get").withRel("profile"));
-        if (event.getManager().equals(currentUser)) {
-            eventResource.add(linkTo(EventController.class).slash(event.getId()).withRel("update-event"));
+        if (event.isManagedBy(currentUser)) {
+            eventResource.add(Link.of(eventsHref() + "/" + event.getId()).withRel("update-event"));
         }
-        return ResponseEntity.ok(eventResource);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .body(eventResource);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity updateEvent(@PathVariable Integer id,
                                       @RequestBody @Validated EventDto eventDto,
                                       Errors errors,
+                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                       @CurrentUser Account currentUser) {
         Optional<Event> optionalEvent = this.eventRepository.findById(id);
         if (optionalEvent.isEmpty()) {
@@ -113,18 +372,41 @@ public class EventController {
         }
 
         Event event = optionalEvent.get();
-        if (!event.getManager().equals(currentUser)) {
+        if (!event.isManagedBy(currentUser)) {
             return new ResponseEntity(HttpStatus.UNAUTHORIZED);
         }
 
-        modelMapper.map(eventDto, event);
-        Event updatedEvent = this.eventRepository.save(event);
+        //조회 응답의 어느 표현 ETag 든 현재 버전이면 통과
+        if (ifMatch != null && !ETags.strongMatches(ifMatch, event.etag())
+                && !ETags.strongMatches(ifMatch, event.etag(currentUser))) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).eTag(event.etag()).build();
+        }
+
+        eventMapper.update(eventDto, event);
+        Event updatedEvent;
+        try {
+            updatedEvent = this.eventService.updateEvent(event);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            //조회 이후 다른 요청이 먼저 수정한 경우
+            return new ResponseEntity(HttpStatus.PRECONDITION_FAILED);
+        }
+        this.eventResponseCache.invalidateAll();
         EventResource eventResource = new EventResource(updatedEvent);
         eventResource.add(Link.of("/docs/index.html#resources-events-update").withRel("profile"));
-        return ResponseEntity.ok(eventResource);
+        return ResponseEntity.ok()
+                .eTag(updatedEvent.etag())
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .body(eventResource);
+    }
+
+    private String eventsHref() {
+        return LinkTemplates.controllerHref(EventController.class);
     }
 
     private ResponseEntity badRequest(Errors errors) {
+        errors.getAllErrors().forEach(error -> this.meterRegistry
+                .counter("events.validation.rejections", "code", String.valueOf(error.getCode()))
+                .increment());
         return ResponseEntity.badRequest().body(new ErrorsResource(errors));
     }
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package me.dcun.demorestapi.events;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이징에 사용하는 (beginEventDateTime, id) 커서.
+ * 클라이언트에게는 Base64 URL 인코딩된 불투명 문자열로만 노출한다.
+ */
+@Getter
+public class EventCursor {
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime beginEventDateTime;
+    private final Integer id;
+
+    public EventCursor(LocalDateTime beginEventDateTime, Integer id) {
+        this.beginEventDateTime = beginEventDateTime;
+        this.id = id;
+    }
+
+    public static EventCursor of(Event event) {
+        return new EventCursor(event.getBeginEventDateTime(), event.getId());
+    }
+
+    public String encode() {
+        String raw = beginEventDateTime + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EventCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            if (index < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return new EventCursor(LocalDateTime.parse(raw.substring(0, index)),
+                    Integer.valueOf(raw.substring(index + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package me.dcun.demorestapi.events;
+
+import lombok.Getter;
+
+@Getter
+public enum EventExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    EventExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+}
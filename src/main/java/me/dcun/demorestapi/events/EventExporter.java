@@ -0,0 +1,133 @@
+package me.dcun.demorestapi.events;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 전체 이벤트를 커서로 읽으면서 바로 응답에 쓴다.
+ * 쓴 엔티티는 detach 하여 영속성 컨텍스트가 커지지 않으므로 행 수와 상관없이 메모리 사용량이 일정하다.
+ */
+@Component
+public class EventExporter {
+    private static final String CSV_HEADER = "id,name,description,beginEnrollmentDateTime,closeEnrollmentDateTime,"
+            + "beginEventDateTime,endEventDateTime,location,basePrice,maxPrice,limitOfEnrollment,"
+            + "offline,free,eventStatus,managerId";
+
+    private final EventRepository eventRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public EventExporter(EventRepository eventRepository, EntityManager entityManager, ObjectMapper objectMapper,
+                         PlatformTransactionManager transactionManager) {
+        this.eventRepository = eventRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public void export(EventExportFormat format, OutputStream outputStream) throws IOException {
+        if (format == EventExportFormat.CSV) {
+            writeCsv(outputStream);
+        } else {
+            writeNdjson(outputStream);
+        }
+    }
+
+    private void writeNdjson(OutputStream outputStream) throws IOException {
+        ObjectWriter objectWriter = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
+        AtomicBoolean written = new AtomicBoolean();
+        try (SequenceWriter writer = objectWriter.writeValues(outputStream)) {
+            forEachEvent(event -> {
+                try {
+                    writer.write(event);
+                    written.set(true);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        if (written.get()) {
+            outputStream.write('\n');
+        }
+        outputStream.flush();
+    }
+
+    private void writeCsv(OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        forEachEvent(event -> {
+            try {
+                writer.write(toCsv(event));
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private void forEachEvent(Consumer<Event> consumer) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Event> events = eventRepository.streamAll()) {
+                events.forEach(event -> {
+                    consumer.accept(event);
+                    entityManager.detach(event);
+                });
+            }
+        });
+    }
+
+    private String toCsv(Event event) {
+        return String.join(",",
+                String.valueOf(event.getId()),
+                csv(event.getName()),
+                csv(event.getDescription()),
+                csv(event.getBeginEnrollmentDateTime()),
+                csv(event.getCloseEnrollmentDateTime()),
+                csv(event.getBeginEventDateTime()),
+                csv(event.getEndEventDateTime()),
+                csv(event.getLocation()),
+                String.valueOf(event.getBasePrice()),
+                String.valueOf(event.getMaxPrice()),
+                String.valueOf(event.getLimitOfEnrollment()),
+                String.valueOf(event.isOffline()),
+                String.valueOf(event.isFree()),
+                csv(event.getEventStatus()),
+                event.getManager() == null ? "" : String.valueOf(event.getManager().getId()));
+    }
+
+    private String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
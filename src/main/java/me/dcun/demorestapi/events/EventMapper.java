@@ -0,0 +1,57 @@
+package me.dcun.demorestapi.events;
+
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * EventDto 를 Event 로 복사한다. ModelMapper 의 런타임 매칭 대신 필드를 직접 복사하고,
+ * EventDto 에 필드가 추가되었는데 여기서 빠지면 애플리케이션 시작 시 실패한다.
+ */
+@Component
+public class EventMapper {
+    static final Set<String> MAPPED_FIELDS = Set.of(
+            "name", "description",
+            "beginEnrollmentDateTime", "closeEnrollmentDateTime",
+            "beginEventDateTime", "endEventDateTime",
+            "location", "basePrice", "maxPrice", "limitOfEnrollment");
+
+    @PostConstruct
+    void verify() {
+        Set<String> dtoFields = Arrays.stream(EventDto.class.getDeclaredFields())
+                .filter(f -> !Modifier.isStatic(f.getModifiers()) && !f.isSynthetic())
+                .map(Field::getName)
+                .collect(Collectors.toSet());
+        if (!dtoFields.equals(MAPPED_FIELDS)) {
+            throw new IllegalStateException("EventMapper does not map EventDto fields " + dtoFields
+                    + ", mapped " + MAPPED_FIELDS);
+        }
+    }
+
+    @Timed(value = "events.mapping", histogram = true)
+    public Event toEvent(EventDto eventDto) {
+        Event event = new Event();
+        update(eventDto, event);
+        return event;
+    }
+
+    @Timed(value = "events.mapping", histogram = true)
+    public void update(EventDto eventDto, Event event) {
+        event.setName(eventDto.getName());
+        event.setDescription(eventDto.getDescription());
+        event.setBeginEnrollmentDateTime(eventDto.getBeginEnrollmentDateTime());
+        event.setCloseEnrollmentDateTime(eventDto.getCloseEnrollmentDateTime());
+        event.setBeginEventDateTime(eventDto.getBeginEventDateTime());
+        event.setEndEventDateTime(eventDto.getEndEventDateTime());
+        event.setLocation(eventDto.getLocation());
+        event.setBasePrice(eventDto.getBasePrice());
+        event.setMaxPrice(eventDto.getMaxPrice());
+        event.setLimitOfEnrollment(eventDto.getLimitOfEnrollment());
+    }
+}
@@ -0,0 +1,40 @@
+package me.dcun.demorestapi.events;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import me.dcun.demorestapi.common.PooledSequenceGenerator;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 변경과 같은 트랜잭션에 기록되는 발행 대기 메시지.
+ * {@link EventOutboxPublisher} 가 id 순서로 읽어 외부로 보낸 뒤 삭제한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "event_outbox")
+public class EventOutbox {
+    @Id
+    @GeneratedValue(generator = "event_outbox_seq")
+    @GenericGenerator(name = "event_outbox_seq", strategy = PooledSequenceGenerator.STRATEGY,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "event_outbox_seq"))
+    private Long id;
+    @Enumerated(EnumType.STRING)
+    private EventChanged.Type type;
+    private Integer eventId;
+    private Integer version;
+    private LocalDateTime createdAt;
+
+    public EventOutbox(EventChanged eventChanged) {
+        this.type = eventChanged.getType();
+        this.eventId = eventChanged.getEventId();
+        this.version = eventChanged.getVersion();
+        this.createdAt = LocalDateTime.now();
+    }
+}
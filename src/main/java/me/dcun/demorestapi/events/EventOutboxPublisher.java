@@ -0,0 +1,86 @@
+package me.dcun.demorestapi.events;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import me.dcun.demorestapi.common.AppProperties;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * outbox 를 outboxPollInterval 마다 outboxBatchSize 건씩 읽어 sink 로 보내고 삭제한다.
+ * 가득 찬 배치를 읽으면 기다리지 않고 바로 다음 배치를 읽는다.
+ * 배치마다 트랜잭션 하나에서 행을 잠그고(skip locked) 발행한 뒤 삭제하므로 여러 인스턴스가 동시에 실행되어도
+ * 같은 메시지를 나눠 갖지 않는다. 대신 인스턴스 사이의 발행 순서는 보장하지 않는다.
+ */
+@Component
+public class EventOutboxPublisher implements SchedulingConfigurer {
+    private static final int FAILED = -1;
+
+    private final EventOutboxRepository eventOutboxRepository;
+    private final EventOutboxSink eventOutboxSink;
+    private final AppProperties appProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter failures;
+
+    public EventOutboxPublisher(EventOutboxRepository eventOutboxRepository, EventOutboxSink eventOutboxSink,
+                                AppProperties appProperties, PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.eventOutboxRepository = eventOutboxRepository;
+        this.eventOutboxSink = eventOutboxSink;
+        this.appProperties = appProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.failures = Counter.builder("events.outbox.publish.failures").register(meterRegistry);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        long interval = appProperties.getOutboxPollInterval().toMillis();
+        taskRegistrar.addFixedDelayTask(new IntervalTask(this::publishPending, interval, interval));
+    }
+
+    /**
+     * sink 가 실패하면 events.outbox.publish.failures 를 올리고 이번 주기를 멈춘다.
+     * 잠갔던 행은 삭제하지 않고 풀리므로 다음 주기에 다시 보낸다.
+     *
+     * @return 발행한 메시지 수
+     */
+    public synchronized int publishPending() {
+        int batchSize = appProperties.getOutboxBatchSize();
+        int published = 0;
+        int size;
+        do {
+            size = transactionTemplate.execute(status -> publishBatch(batchSize));
+            if (size == FAILED) {
+                break;
+            }
+            published += size;
+        } while (size == batchSize);
+        return published;
+    }
+
+    private int publishBatch(int batchSize) {
+        List<EventOutbox> batch = eventOutboxRepository.claimBatch(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            eventOutboxSink.publish(batch);
+        } catch (IOException e) {
+            failures.increment();
+            return FAILED;
+        }
+        eventOutboxRepository.deleteAllByIdInBatch(batch.stream()
+                .map(EventOutbox::getId)
+                .collect(Collectors.toList()));
+        return batch.size();
+    }
+}
@@ -0,0 +1,25 @@
+package me.dcun.demorestapi.events;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.util.List;
+
+import static org.hibernate.cfg.AvailableSettings.JPA_LOCK_TIMEOUT;
+
+public interface EventOutboxRepository extends JpaRepository<EventOutbox, Long> {
+    /**
+     * select ... for update skip locked. 다른 인스턴스가 잠근 행은 건너뛰므로 같은 메시지를 동시에 발행하지 않는다.
+     * 트랜잭션 안에서 호출해야 하며 잠금은 트랜잭션이 끝날 때 풀린다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    //-2 : LockOptions.SKIP_LOCKED
+    @QueryHints(@QueryHint(name = JPA_LOCK_TIMEOUT, value = "-2"))
+    @Query("select o from EventOutbox o order by o.id asc")
+    List<EventOutbox> claimBatch(Pageable pageable);
+}
@@ -0,0 +1,12 @@
+package me.dcun.demorestapi.events;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * outbox 메시지를 내보내는 대상. 예외 없이 반환하면 전달된 것으로 보고 outbox 에서 삭제한다.
+ * 실패하면 같은 메시지를 다시 보내므로(최소 한 번 전달) 받는 쪽은 id 로 중복을 걸러야 한다.
+ */
+public interface EventOutboxSink {
+    void publish(List<EventOutbox> messages) throws IOException;
+}
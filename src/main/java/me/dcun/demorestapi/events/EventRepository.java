@@ -1,6 +1,60 @@
 package me.dcun.demorestapi.events;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface EventRepository extends JpaRepository<Event, Integer> {
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_MODE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+public interface EventRepository extends JpaRepository<Event, Integer>, JpaSpecificationExecutor<Event>,
+        EventSummaryRepository {
+    //export : 전방향 커서로 한 번에 fetchSize 만큼씩 읽는다. 트랜잭션 안에서 사용하고 반드시 close 해야 한다.
+    //전체를 한 번씩 읽으므로 2차 캐시에 넣지 않는다(CacheMode.IGNORE). 넣으면 자주 조회되는 항목이 밀려난다.
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_CACHE_MODE, value = "IGNORE")})
+    @Query("select e from Event e order by e.id asc")
+    Stream<Event> streamAll();
+
+    //키셋 페이징 : count 쿼리 없이 (beginEventDateTime, id) 인덱스를 따라 읽는다.
+    //스크롤과 스트림이 차례로 훑는 쿼리이므로 export 와 같이 2차 캐시에 넣지 않는다.
+    @QueryHints(@QueryHint(name = HINT_CACHE_MODE, value = "IGNORE"))
+    @Query("select e from Event e order by e.beginEventDateTime asc, e.id asc")
+    List<Event> findFirstSlice(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_CACHE_MODE, value = "IGNORE"))
+    @Query("select e from Event e " +
+            "where e.beginEventDateTime > :beginEventDateTime " +
+            "or (e.beginEventDateTime = :beginEventDateTime and e.id > :id) " +
+            "order by e.beginEventDateTime asc, e.id asc")
+    List<Event> findSliceAfter(@Param("beginEventDateTime") LocalDateTime beginEventDateTime,
+                               @Param("id") Integer id,
+                               Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_CACHE_MODE, value = "IGNORE"))
+    @Query("select e from Event e " +
+            "where e.beginEventDateTime < :beginEventDateTime " +
+            "or (e.beginEventDateTime = :beginEventDateTime and e.id < :id) " +
+            "order by e.beginEventDateTime desc, e.id desc")
+    List<Event> findSliceBefore(@Param("beginEventDateTime") LocalDateTime beginEventDateTime,
+                                @Param("id") Integer id,
+                                Pageable pageable);
+
+    //manager 별 목록 : (manager_id, beginEventDateTime, id) 인덱스로 조건과 기본 정렬을 함께 처리한다.
+    //e.manager.id 는 FK 컬럼이라 account 를 조인하지 않는다.
+    @Query(value = "select new me.dcun.demorestapi.events.EventSummary(" +
+            "e.id, e.name, e.description, e.beginEnrollmentDateTime, e.closeEnrollmentDateTime, " +
+            "e.beginEventDateTime, e.endEventDateTime, e.location, e.basePrice, e.maxPrice, e.limitOfEnrollment, " +
+            "e.offline, e.free, e.eventStatus, e.manager.id) " +
+            "from Event e where e.manager.id = :managerId",
+            countQuery = "select count(e) from Event e where e.manager.id = :managerId")
+    Page<EventSummary> findSummariesByManagerId(@Param("managerId") Integer managerId, Pageable pageable);
 }
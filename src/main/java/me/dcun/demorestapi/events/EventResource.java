@@ -1,12 +1,17 @@
 package me.dcun.demorestapi.events;
 
+import me.dcun.demorestapi.common.LinkTemplates;
 import org.springframework.hateoas.EntityModel;
-
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import org.springframework.hateoas.Link;
 
 public class EventResource extends EntityModel<Event> {
     public EventResource(Event event) {
+        this(event, LinkTemplates.controllerHref(EventController.class));
+    }
+
+    //요청 스레드 밖(스트리밍)에서는 미리 구한 baseHref 를 사용한다.
+    public EventResource(Event event, String baseHref) {
         super(event);
-        add(linkTo(EventController.class).slash(event.getId()).withSelfRel());
+        add(Link.of(baseHref + "/" + event.getId()));
     }
 }
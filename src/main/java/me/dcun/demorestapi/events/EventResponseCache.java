@@ -0,0 +1,187 @@
+package me.dcun.demorestapi.events;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import me.dcun.demorestapi.common.AppProperties;
+import me.dcun.demorestapi.common.ETags;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * 이벤트 조회(getEvent, queryEvents) 응답을 메모리에 캐시하는 필터. Spring Security 필터 다음에 실행된다.
+ * 조회 결과는 인증 여부에 따라 링크가 달라지므로 키에 포함하고, 링크는 요청의 scheme/host/context-path 로 만든
+ * 절대 주소이므로 이것도 키에 포함한다. (LinkTemplates 와 같은 기준)
+ * 사용자마다 update-event 링크가 다른 단건 조회는 익명 요청만 캐시한다.
+ * 이벤트가 생성/수정되면 {@link #invalidateAll()} 로 비운다. 비우기 전에 시작한 조회가 끝나면서 이전 응답을 다시 넣지 않도록
+ * 세대 번호를 올리고, 요청을 시작할 때의 세대와 다르면 저장하지 않는다.
+ * 비동기 실행 모드({@link me.dcun.demorestapi.common.JdbcExecution})에서는 비동기 디스패치가 끝난 뒤 응답을 저장한다.
+ */
+@Component
+public class EventResponseCache extends OncePerRequestFilter {
+    private static final Pattern EVENT_PATH = Pattern.compile("/api/events/\\d+");
+    private static final String LIST_PATH = "/api/events";
+    private static final int MAX_CACHED_BODY_BYTES = 1024 * 1024;
+    private static final String ANONYMOUS = "|anonymous";
+    private static final String AUTHENTICATED = "|authenticated";
+    private static final String KEY_ATTRIBUTE = EventResponseCache.class.getName() + ".KEY";
+    private static final String RESPONSE_ATTRIBUTE = EventResponseCache.class.getName() + ".RESPONSE";
+    private static final String GENERATION_ATTRIBUTE = EventResponseCache.class.getName() + ".GENERATION";
+
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+    private final boolean enabled;
+    private final String cacheControl;
+    private final Cache<String, CachedResponse> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public EventResponseCache(AppProperties appProperties) {
+        this.enabled = appProperties.isResponseCacheEnabled();
+        this.cacheControl = CacheControl.maxAge(appProperties.getResponseCacheMaxAge()).cachePublic().getHeaderValue();
+        Duration timeToLive = appProperties.getResponseCacheTimeToLive();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(appProperties.getResponseCacheMaximumSize())
+                .expireAfterWrite(timeToLive)
+                .build();
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        //manager=me 는 사용자마다 결과가 달라 인증 여부만으로 나눈 키를 공유할 수 없다.
+        if (request.getParameter("manager") != null) {
+            return true;
+        }
+        String path = urlPathHelper.getPathWithinApplication(request);
+        return !(LIST_PATH.equals(path) || EVENT_PATH.matcher(path).matches());
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (isAsyncDispatch(request)) {
+            ContentCachingResponseWrapper responseWrapper =
+                    (ContentCachingResponseWrapper) request.getAttribute(RESPONSE_ATTRIBUTE);
+            filterChain.doFilter(request, response);
+            if (responseWrapper != null) {
+                store((String) request.getAttribute(KEY_ATTRIBUTE), (Long) request.getAttribute(GENERATION_ATTRIBUTE),
+                        responseWrapper);
+            }
+            return;
+        }
+
+        boolean anonymous = isAnonymous();
+        String path = urlPathHelper.getPathWithinApplication(request);
+        if (!anonymous && !LIST_PATH.equals(path)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = ServletUriComponentsBuilder.fromServletMapping(request).toUriString()
+                + path + "?" + (request.getQueryString() == null ? "" : request.getQueryString())
+                + (anonymous ? ANONYMOUS : AUTHENTICATED);
+        CachedResponse cached = enabled ? cache.getIfPresent(key) : null;
+        if (cached != null) {
+            cached.writeTo(request, response, anonymous ? cacheControl : null);
+            return;
+        }
+
+        //조회 전에 읽어야 조회 중에 일어난 invalidateAll 을 알아챈다.
+        long startGeneration = generation.get();
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, responseWrapper);
+        if (isAsyncStarted(request)) {
+            request.setAttribute(KEY_ATTRIBUTE, key);
+            request.setAttribute(GENERATION_ATTRIBUTE, startGeneration);
+            request.setAttribute(RESPONSE_ATTRIBUTE, responseWrapper);
+            return;
+        }
+        store(key, startGeneration, responseWrapper);
+    }
+
+    private void store(String key, long startGeneration, ContentCachingResponseWrapper responseWrapper)
+            throws IOException {
+        boolean anonymous = key.endsWith(ANONYMOUS);
+        if (responseWrapper.getStatus() == HttpStatus.OK.value()) {
+            if (anonymous && !responseWrapper.containsHeader(HttpHeaders.CACHE_CONTROL)) {
+                responseWrapper.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+            }
+            if (enabled && responseWrapper.getContentSize() <= MAX_CACHED_BODY_BYTES
+                    && generation.get() == startGeneration) {
+                cache.put(key, new CachedResponse(responseWrapper.getContentType(),
+                        responseWrapper.getHeader(HttpHeaders.ETAG),
+                        responseWrapper.getHeader(HttpHeaders.VARY),
+                        responseWrapper.getContentAsByteArray()));
+            }
+        }
+        responseWrapper.copyBodyToResponse();
+    }
+
+    private boolean isAnonymous() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || authentication instanceof AnonymousAuthenticationToken;
+    }
+
+    private static class CachedResponse {
+        private final String contentType;
+        private final String etag;
+        private final String vary;
+        private final byte[] body;
+
+        CachedResponse(String contentType, String etag, String vary, byte[] body) {
+            this.contentType = contentType;
+            this.etag = etag;
+            this.vary = vary;
+            this.body = body;
+        }
+
+        void writeTo(HttpServletRequest request, HttpServletResponse response, String cacheControl) throws IOException {
+            if (cacheControl != null) {
+                response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+            }
+            if (vary != null) {
+                response.setHeader(HttpHeaders.VARY, vary);
+            }
+            if (etag != null) {
+                response.setHeader(HttpHeaders.ETAG, etag);
+                if (ETags.weakMatches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+                    response.setStatus(HttpStatus.NOT_MODIFIED.value());
+                    return;
+                }
+            }
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(contentType);
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+}
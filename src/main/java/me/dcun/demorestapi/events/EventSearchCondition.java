@@ -0,0 +1,32 @@
+package me.dcun.demorestapi.events;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Getter @Setter
+public class EventSearchCondition {
+    private EventStatus eventStatus;
+    private Boolean free;
+    private Boolean offline;
+    private String location;
+    private Integer priceFrom;
+    private Integer priceTo;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime enrollmentFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime enrollmentTo;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime eventFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime eventTo;
+
+    public boolean isEmpty() {
+        return eventStatus == null && free == null && offline == null && location == null
+                && priceFrom == null && priceTo == null
+                && enrollmentFrom == null && enrollmentTo == null
+                && eventFrom == null && eventTo == null;
+    }
+}
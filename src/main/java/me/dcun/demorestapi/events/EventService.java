@@ -0,0 +1,55 @@
+package me.dcun.demorestapi.events;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 이벤트 저장과 outbox 기록을 한 트랜잭션으로 묶는다.
+ * {@link EventChanged} 는 트랜잭션 안에서 발행하므로 구독자에게는 커밋된 뒤에 전달된다.
+ */
+@Service
+@Transactional
+public class EventService {
+    private final EventRepository eventRepository;
+    private final EventOutboxRepository eventOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public EventService(EventRepository eventRepository, EventOutboxRepository eventOutboxRepository,
+                        ApplicationEventPublisher eventPublisher) {
+        this.eventRepository = eventRepository;
+        this.eventOutboxRepository = eventOutboxRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public Event createEvent(Event event) {
+        Event newEvent = this.eventRepository.save(event);
+        record(EventChanged.created(newEvent));
+        return newEvent;
+    }
+
+    public List<Event> createEvents(List<Event> events) {
+        List<Event> newEvents = this.eventRepository.saveAll(events);
+        List<EventChanged> changes = newEvents.stream()
+                .map(EventChanged::created)
+                .collect(Collectors.toList());
+        this.eventOutboxRepository.saveAll(changes.stream().map(EventOutbox::new).collect(Collectors.toList()));
+        changes.forEach(this.eventPublisher::publishEvent);
+        return newEvents;
+    }
+
+    //증가된 version 을 기록하고 버전 충돌을 여기서 드러내기 위해 flush 한다.
+    public Event updateEvent(Event event) {
+        Event updatedEvent = this.eventRepository.saveAndFlush(event);
+        record(EventChanged.updated(updatedEvent));
+        return updatedEvent;
+    }
+
+    private void record(EventChanged eventChanged) {
+        this.eventOutboxRepository.save(new EventOutbox(eventChanged));
+        this.eventPublisher.publishEvent(eventChanged);
+    }
+}
@@ -0,0 +1,50 @@
+package me.dcun.demorestapi.events;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.Predicate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class EventSpecifications {
+    private EventSpecifications() {
+    }
+
+    //조건이 없는 항목은 where 절에서 제외하고 하나의 쿼리로 만든다.
+    public static Specification<Event> of(EventSearchCondition condition) {
+        return (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (condition.getEventStatus() != null) {
+                predicates.add(builder.equal(root.get("eventStatus"), condition.getEventStatus()));
+            }
+            if (condition.getFree() != null) {
+                predicates.add(builder.equal(root.get("free"), condition.getFree()));
+            }
+            if (condition.getOffline() != null) {
+                predicates.add(builder.equal(root.get("offline"), condition.getOffline()));
+            }
+            if (condition.getLocation() != null && !condition.getLocation().isBlank()) {
+                predicates.add(builder.equal(root.get("location"), condition.getLocation()));
+            }
+            if (condition.getPriceFrom() != null) {
+                predicates.add(builder.greaterThanOrEqualTo(root.get("basePrice"), condition.getPriceFrom()));
+            }
+            if (condition.getPriceTo() != null) {
+                predicates.add(builder.lessThanOrEqualTo(root.get("basePrice"), condition.getPriceTo()));
+            }
+            if (condition.getEnrollmentFrom() != null) {
+                predicates.add(builder.greaterThanOrEqualTo(root.get("beginEnrollmentDateTime"), condition.getEnrollmentFrom()));
+            }
+            if (condition.getEnrollmentTo() != null) {
+                predicates.add(builder.lessThanOrEqualTo(root.get("closeEnrollmentDateTime"), condition.getEnrollmentTo()));
+            }
+            if (condition.getEventFrom() != null) {
+                predicates.add(builder.greaterThanOrEqualTo(root.get("beginEventDateTime"), condition.getEventFrom()));
+            }
+            if (condition.getEventTo() != null) {
+                predicates.add(builder.lessThanOrEqualTo(root.get("endEventDateTime"), condition.getEventTo()));
+            }
+            return builder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
@@ -0,0 +1,108 @@
+package me.dcun.demorestapi.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.dcun.demorestapi.common.AppProperties;
+import me.dcun.demorestapi.common.LinkTemplates;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.LinkRelationProvider;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 전체 이벤트를 키셋 조각 단위로 읽어 한 건씩 흘려보낸다.
+ * JDBC 호출은 jdbcScheduler 에서만 실행되고, 응답 쓰기는 MVC 비동기 처리가 클라이언트 속도에 맞춰 요청한다.
+ * 각 항목은 단건 조회와 같은 HAL 표현(_links.self)으로 직렬화한다.
+ * /api/events/export 의 NDJSON 과 다른 점 : 내보내기는 한 트랜잭션의 커서로 엔티티를 그대로 빠르게 쓰는 일괄 백업용이고,
+ * 이 스트림은 HAL 링크를 포함하며 커서로 끊긴 지점부터 이어 받을 수 있고 요청 스레드를 잡지 않는 클라이언트용이다.
+ */
+@RestController
+@RequestMapping("/api/events/stream")
+public class EventStreamController {
+    private final EventRepository eventRepository;
+    private final Scheduler jdbcScheduler;
+    private final ObjectMapper halObjectMapper;
+    private final int fetchSize;
+
+    public EventStreamController(EventRepository eventRepository, Scheduler jdbcScheduler, ObjectMapper objectMapper,
+                                 LinkRelationProvider linkRelationProvider, AppProperties appProperties) {
+        this.eventRepository = eventRepository;
+        this.jdbcScheduler = jdbcScheduler;
+        this.halObjectMapper = objectMapper.copy().registerModule(new Jackson2HalModule());
+        this.halObjectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                linkRelationProvider, CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY));
+        this.fetchSize = appProperties.getStreamFetchSize();
+    }
+
+    @GetMapping(produces = "application/x-ndjson")
+    public ResponseEntity<Flux<String>> streamEvents(@RequestParam(required = false) String after) {
+        return stream(after, (event, json) -> json);
+    }
+
+    //SSE id 에 커서를 담는다. 브라우저 EventSource 는 같은 URL 로 재연결하면서 Last-Event-ID 헤더로 마지막 id 를 보내므로
+    //헤더가 있으면 after 보다 우선한다.
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<String>>> streamEventsAsSse(
+            @RequestParam(required = false) String after,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return stream(lastEventId != null ? lastEventId : after, (event, json) -> ServerSentEvent.builder(json)
+                .id(EventCursor.of(event).encode())
+                .event("event")
+                .build());
+    }
+
+    private <T> ResponseEntity<Flux<T>> stream(String after, EventWriter<T> writer) {
+        EventCursor cursor;
+        try {
+            cursor = after == null ? null : EventCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        //요청 스레드에서만 현재 요청 정보를 알 수 있으므로 기준 href 를 미리 구한다.
+        String baseHref = LinkTemplates.controllerHref(EventController.class);
+        Flux<T> events = fetch(cursor)
+                .expand(slice -> slice.size() < fetchSize
+                        ? Mono.empty()
+                        : fetch(EventCursor.of(slice.get(slice.size() - 1))))
+                .flatMapIterable(Function.identity())
+                .map(event -> writer.write(event, toJson(new EventResource(event, baseHref))));
+        return ResponseEntity.ok(events);
+    }
+
+    private Mono<List<Event>> fetch(EventCursor cursor) {
+        PageRequest limit = PageRequest.of(0, fetchSize);
+        return Mono.fromCallable(() -> cursor == null
+                        ? this.eventRepository.findFirstSlice(limit)
+                        : this.eventRepository.findSliceAfter(cursor.getBeginEventDateTime(), cursor.getId(), limit))
+                .subscribeOn(jdbcScheduler);
+    }
+
+    private String toJson(EventResource eventResource) {
+        try {
+            return halObjectMapper.writeValueAsString(eventResource);
+        } catch (JsonProcessingException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    private interface EventWriter<T> {
+        T write(Event event, String json);
+    }
+}
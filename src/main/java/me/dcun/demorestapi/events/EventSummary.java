@@ -0,0 +1,56 @@
+package me.dcun.demorestapi.events;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.Getter;
+import me.dcun.demorestapi.accounts.Account;
+import me.dcun.demorestapi.accounts.AccountSerializer;
+import org.springframework.hateoas.server.core.Relation;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 조회용 읽기 전용 모델. 영속성 컨텍스트에 올라가지 않으며
+ * {@link Event} 와 같은 필드 순서로 직렬화되어 응답 형태가 동일하다.
+ */
+@Getter
+@Relation(collectionRelation = "eventList")
+public class EventSummary {
+    private final Integer id;
+    private final String name;
+    private final String description;
+    private final LocalDateTime beginEnrollmentDateTime;
+    private final LocalDateTime closeEnrollmentDateTime;
+    private final LocalDateTime beginEventDateTime;
+    private final LocalDateTime endEventDateTime;
+    private final String location;
+    private final int basePrice;
+    private final int maxPrice;
+    private final int limitOfEnrollment;
+    private final boolean offline;
+    private final boolean free;
+    private final EventStatus eventStatus;
+    @JsonSerialize(using = AccountSerializer.class)
+    private final Account manager;
+
+    public EventSummary(Integer id, String name, String description,
+                        LocalDateTime beginEnrollmentDateTime, LocalDateTime closeEnrollmentDateTime,
+                        LocalDateTime beginEventDateTime, LocalDateTime endEventDateTime,
+                        String location, int basePrice, int maxPrice, int limitOfEnrollment,
+                        boolean offline, boolean free, EventStatus eventStatus, Integer managerId) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.beginEnrollmentDateTime = beginEnrollmentDateTime;
+        this.closeEnrollmentDateTime = closeEnrollmentDateTime;
+        this.beginEventDateTime = beginEventDateTime;
+        this.endEventDateTime = endEventDateTime;
+        this.location = location;
+        this.basePrice = basePrice;
+        this.maxPrice = maxPrice;
+        this.limitOfEnrollment = limitOfEnrollment;
+        this.offline = offline;
+        this.free = free;
+        this.eventStatus = eventStatus;
+        this.manager = managerId == null ? null : Account.builder().id(managerId).build();
+    }
+}
@@ -0,0 +1,9 @@
+package me.dcun.demorestapi.events;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface EventSummaryRepository {
+    Page<EventSummary> findSummaries(Specification<Event> specification, Pageable pageable);
+}
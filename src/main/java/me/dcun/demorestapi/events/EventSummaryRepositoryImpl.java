@@ -0,0 +1,75 @@
+package me.dcun.demorestapi.events;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.List;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+@Transactional(readOnly = true)
+public class EventSummaryRepositoryImpl implements EventSummaryRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<EventSummary> findSummaries(Specification<Event> specification, Pageable pageable) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventSummary> query = builder.createQuery(EventSummary.class);
+        Root<Event> root = query.from(Event.class);
+        query.select(builder.construct(EventSummary.class,
+                root.get("id"),
+                root.get("name"),
+                root.get("description"),
+                root.get("beginEnrollmentDateTime"),
+                root.get("closeEnrollmentDateTime"),
+                root.get("beginEventDateTime"),
+                root.get("endEventDateTime"),
+                root.get("location"),
+                root.get("basePrice"),
+                root.get("maxPrice"),
+                root.get("limitOfEnrollment"),
+                root.get("offline"),
+                root.get("free"),
+                root.get("eventStatus"),
+                //manager.id 는 FK 컬럼(manager_id)으로 읽으므로 account 를 조인하지 않는다.
+                root.get("manager").get("id")));
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(toOrders(pageable.getSort(), root, builder));
+        }
+
+        TypedQuery<EventSummary> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<EventSummary> content = typedQuery.getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+    }
+
+    private long count(Specification<Event> specification) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<Event> root = query.from(Event.class);
+        query.select(builder.count(root));
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
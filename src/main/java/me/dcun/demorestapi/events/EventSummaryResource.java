@@ -0,0 +1,20 @@
+package me.dcun.demorestapi.events;
+
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+
+public class EventSummaryResource extends EntityModel<EventSummary> {
+    //baseHref 는 요청당 한 번만 만들고 항목마다 id 만 붙인다.
+    public EventSummaryResource(EventSummary eventSummary, String baseHref) {
+        super(eventSummary);
+        add(Link.of(baseHref + "/" + eventSummary.getId()));
+    }
+
+    //manager 별 목록에서는 모든 항목의 manager 가 같으므로 항목마다 소유자를 확인하지 않는다.
+    public EventSummaryResource(EventSummary eventSummary, String baseHref, boolean updatable) {
+        this(eventSummary, baseHref);
+        if (updatable) {
+            add(Link.of(baseHref + "/" + eventSummary.getId()).withRel("update-event"));
+        }
+    }
+}
@@ -1,18 +1,18 @@
 package me.dcun.demorestapi.index;
 
+import me.dcun.demorestapi.common.LinkTemplates;
 import me.dcun.demorestapi.events.EventController;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-
 @RestController
 public class IndexController {
     @GetMapping("/api")
     public RepresentationModel index() {
         var index = new RepresentationModel();
-        index.add(linkTo(EventController.class).withRel("events"));
+        index.add(Link.of(LinkTemplates.controllerHref(EventController.class)).withRel("events"));
         return index;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,86 @@
+-- 시퀀스 increment 는 my-app.id-allocation-size(pooled optimizer) 와 같아야 한다.
+create sequence account_seq start with 1 increment by 50;
+create sequence event_seq start with 1 increment by 50;
+create sequence event_outbox_seq start with 1 increment by 50;
+
+create table account (
+    id integer not null,
+    email varchar(255),
+    password varchar(255),
+    primary key (id)
+);
+
+-- 로그인마다 실행되는 findByEmail
+create unique index idx_account_email on account (email);
+
+create table account_roles (
+    account_id integer not null,
+    roles varchar(255),
+    constraint fk_account_roles_account foreign key (account_id) references account (id)
+);
+
+create index idx_account_roles_account_id on account_roles (account_id);
+
+create table event (
+    id integer not null,
+    name varchar(255),
+    description varchar(255),
+    begin_enrollment_date_time timestamp,
+    close_enrollment_date_time timestamp,
+    begin_event_date_time timestamp,
+    end_event_date_time timestamp,
+    location varchar(255),
+    base_price integer not null,
+    max_price integer not null,
+    limit_of_enrollment integer not null,
+    offline boolean not null,
+    free boolean not null,
+    event_status varchar(255),
+    version integer,
+    manager_id integer,
+    primary key (id),
+    constraint fk_event_manager foreign key (manager_id) references account (id)
+);
+
+-- 기본 정렬과 키셋 페이징
+create index idx_event_begin_event_date_time_id on event (begin_event_date_time, id);
+-- 목록 조회 조건별 선두 컬럼
+create index idx_event_status_begin_event_date_time on event (event_status, begin_event_date_time);
+create index idx_event_free_offline_begin_event_date_time on event (free, offline, begin_event_date_time);
+create index idx_event_location_begin_event_date_time on event (location, begin_event_date_time);
+create index idx_event_base_price on event (base_price);
+create index idx_event_enrollment_date_time on event (begin_enrollment_date_time, close_enrollment_date_time);
+create index idx_event_end_event_date_time on event (end_event_date_time);
+create index idx_event_manager_id on event (manager_id);
+
+create table event_outbox (
+    id bigint not null,
+    type varchar(255),
+    event_id integer,
+    version integer,
+    created_at timestamp,
+    primary key (id)
+);
+
+-- JdbcTokenStore
+create table oauth_access_token (
+    token_id varchar(256),
+    token bytea,
+    authentication_id varchar(256) primary key,
+    user_name varchar(256),
+    client_id varchar(256),
+    authentication bytea,
+    refresh_token varchar(256)
+);
+
+create index idx_oauth_access_token_token_id on oauth_access_token (token_id);
+create index idx_oauth_access_token_refresh_token on oauth_access_token (refresh_token);
+create index idx_oauth_access_token_client_id_user_name on oauth_access_token (client_id, user_name);
+
+create table oauth_refresh_token (
+    token_id varchar(256),
+    token bytea,
+    authentication bytea
+);
+
+create index idx_oauth_refresh_token_token_id on oauth_refresh_token (token_id);
@@ -0,0 +1,4 @@
+-- manager 별 목록 조회 : 조건(manager_id)과 정렬(begin_event_date_time, id)을 한 인덱스로 처리한다.
+create index idx_event_manager_id_begin_event_date_time_id on event (manager_id, begin_event_date_time, id);
+-- 선두 컬럼이 같으므로 단일 컬럼 인덱스는 필요 없다. (FK 조회도 새 인덱스를 사용)
+drop index idx_event_manager_id;
@@ -37,6 +37,46 @@ class AccountServiceTest {
         assertThat(passwordEncoder.matches(appProperties.getAdminPassword(), userDetails.getPassword())).isTrue();
     }
 
+    @Test
+    void principalCache() {
+        //Given
+        String username = "cached@email.com";
+        accountService.saveAccount(Account.builder()
+                .email(username)
+                .password("pass")
+                .roles(Set.of(AccountRole.USER))
+                .build());
+        long hitCount = accountService.principalCacheStats().hitCount();
+
+        //When
+        UserDetails first = accountService.loadUserByUsername(username);
+        UserDetails second = accountService.loadUserByUsername(username);
+
+        //Then
+        assertThat(accountService.principalCacheStats().hitCount()).isEqualTo(hitCount + 1);
+        assertThat(second).isNotSameAs(first);
+        assertThat(((AccountAdapter) second).getAccount()).isNotSameAs(((AccountAdapter) first).getAccount());
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+
+        //When
+        Account account = ((AccountAdapter) second).getAccount();
+        account.setPassword("changed");
+        accountService.saveAccount(account);
+
+        //Then
+        assertThat(passwordEncoder.matches("changed", accountService.loadUserByUsername(username).getPassword())).isTrue();
+
+        //When : email 을 바꾸면 이전 email 로 캐시된 항목도 제거
+        account = ((AccountAdapter) accountService.loadUserByUsername(username)).getAccount();
+        account.setEmail("renamed@email.com");
+        account.setPassword("changed");
+        accountService.saveAccount(account);
+
+        //Then
+        assertThrows(UsernameNotFoundException.class, () -> accountService.loadUserByUsername(username));
+        assertThat(accountService.loadUserByUsername("renamed@email.com").getUsername()).isEqualTo("renamed@email.com");
+    }
+
     @Test
     void expectedExceptionFindByUsername() {
         UsernameNotFoundException exceptionWasExpected = assertThrows(UsernameNotFoundException.class, () -> {
@@ -0,0 +1,78 @@
+package me.dcun.demorestapi.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.common.DefaultOAuth2RefreshToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.security.oauth2.provider.token.store.InMemoryTokenStore;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CachingTokenStoreTest {
+    TokenStore delegate;
+    CachingTokenStore tokenStore;
+    DefaultOAuth2AccessToken accessToken;
+    OAuth2Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        delegate = spy(new InMemoryTokenStore());
+        tokenStore = new CachingTokenStore(delegate, 100, Duration.ofMinutes(1));
+        accessToken = new DefaultOAuth2AccessToken("access");
+        accessToken.setRefreshToken(new DefaultOAuth2RefreshToken("refresh"));
+        OAuth2Request request = new OAuth2Request(Map.of(), "myApp", Set.of(), true, Set.of("read"),
+                Set.of(), null, Set.of(), Map.of());
+        authentication = new OAuth2Authentication(request,
+                new UsernamePasswordAuthenticationToken("admin@email.com", "admin", Set.of()));
+        tokenStore.storeAccessToken(accessToken, authentication);
+    }
+
+    @Test
+    void readFromCache() {
+        //When
+        tokenStore.readAccessToken("access");
+        tokenStore.readAccessToken("access");
+        tokenStore.readAuthentication("access");
+        tokenStore.readAuthentication(accessToken);
+
+        //Then
+        verify(delegate, times(1)).readAccessToken("access");
+        verify(delegate, times(1)).readAuthentication("access");
+    }
+
+    @Test
+    void evictOnRemove() {
+        //Given
+        tokenStore.readAccessToken("access");
+
+        //When
+        tokenStore.removeAccessToken(accessToken);
+
+        //Then
+        assertThat(tokenStore.readAccessToken("access")).isNull();
+        assertThat(tokenStore.readAuthentication("access")).isNull();
+    }
+
+    @Test
+    void evictOnRefresh() {
+        //Given
+        tokenStore.readAccessToken("access");
+
+        //When
+        tokenStore.removeAccessTokenUsingRefreshToken(accessToken.getRefreshToken());
+
+        //Then
+        assertThat(tokenStore.readAccessToken("access")).isNull();
+    }
+}
@@ -0,0 +1,175 @@
+package me.dcun.demorestapi.common;
+
+import me.dcun.demorestapi.accounts.Account;
+import me.dcun.demorestapi.accounts.AccountRepository;
+import me.dcun.demorestapi.accounts.AccountRole;
+import me.dcun.demorestapi.accounts.AccountService;
+import me.dcun.demorestapi.events.Event;
+import me.dcun.demorestapi.events.EventRepository;
+import me.dcun.demorestapi.events.EventStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.oauth2.common.util.Jackson2JsonParser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+//executor 스레드 하나, 대기 큐 없음 : 작업 하나가 실행 중이면 다음 요청은 거절된다.
+@TestPropertySource(properties = {
+        "my-app.async-execution-enabled=true",
+        "my-app.async-executor-size=1",
+        "my-app.async-executor-queue-capacity=0",
+        "my-app.request-diagnostics-enabled=true"})
+class JdbcExecutionTest extends BaseControllerTest {
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    AppProperties appProperties;
+
+    @Autowired
+    ThreadPoolTaskExecutor jdbcExecutor;
+
+    @BeforeEach
+    void initEach() {
+        eventRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("비동기 실행 모드에서 목록 조회를 jdbc executor 에서 처리")
+    void queryEventsOnJdbcExecutor() throws Exception {
+        //Given
+        IntStream.range(0, 5).forEach(this::generateEvent);
+
+        //When
+        MvcResult mvcResult = this.mockMvc.perform(get("/api/events")
+                        .param("page", "0")
+                        .param("size", "3"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //Then : 작업 스레드의 JDBC 사용량도 요청에 합산된다.
+        this.mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(5))
+                .andExpect(jsonPath("_embedded.eventList.length()").value(3))
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(header().string(RequestBudgetFilter.STATEMENTS_HEADER, "2"));
+    }
+
+    @Test
+    @DisplayName("비동기 실행 모드에서 관리자가 다른 계정이 관리하는 이벤트 목록 조회")
+    void queryEventsByManagerAsAdminOnJdbcExecutor() throws Exception {
+        //Given
+        Account user = accountService.saveAccount(Account.builder()
+                .email("user@email.com")
+                .password("user")
+                .roles(Set.of(AccountRole.USER))
+                .build());
+        accountService.saveAccount(Account.builder()
+                .email(appProperties.getAdminUsername())
+                .password(appProperties.getAdminPassword())
+                .roles(Set.of(AccountRole.ADMIN, AccountRole.USER))
+                .build());
+        IntStream.range(0, 3).forEach(i -> {
+            Event event = generateEvent(i);
+            event.setManager(user);
+            eventRepository.save(event);
+        });
+        String accessToken = getAccessToken(appProperties.getAdminUsername(), appProperties.getAdminPassword());
+
+        //When
+        MvcResult mvcResult = this.mockMvc.perform(get("/api/events")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .param("manager", String.valueOf(user.getId())))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //Then : 권한 확인이 작업 스레드에서 일어나므로 보안 컨텍스트가 넘어가야 한다.
+        this.mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(3));
+    }
+
+    @Test
+    @DisplayName("jdbc executor 가 가득 차면 service unavailable 응답")
+    void rejectWhenExecutorIsFull() throws Exception {
+        //Given
+        Event event = generateEvent(0);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        jdbcExecutor.execute(() -> {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await(10, TimeUnit.SECONDS);
+
+        try {
+            //When
+            MvcResult mvcResult = this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            //Then
+            this.mockMvc.perform(asyncDispatch(mvcResult))
+                    .andExpect(status().isServiceUnavailable());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private String getAccessToken(String username, String password) throws Exception {
+        var responseBody = this.mockMvc.perform(post("/oauth/token")
+                        .with(httpBasic(appProperties.getClientId(), appProperties.getClientSecret()))
+                        .param("username", username)
+                        .param("password", password)
+                        .param("grant_type", "password"))
+                .andReturn().getResponse().getContentAsString();
+        return new Jackson2JsonParser().parseMap(responseBody).get("access_token").toString();
+    }
+
+    private Event generateEvent(int index) {
+        return this.eventRepository.save(Event.builder()
+                .name("event " + index)
+                .description("REST API")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 3, 27, 11, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 3, 28, 11, 30))
+                .beginEventDateTime(LocalDateTime.of(2022, 4, 27, 11, 30))
+                .endEventDateTime(LocalDateTime.of(2022, 4, 28, 11, 30))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역")
+                .eventStatus(EventStatus.DRAFT)
+                .build());
+    }
+}
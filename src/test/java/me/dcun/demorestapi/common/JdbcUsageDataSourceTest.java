@@ -0,0 +1,57 @@
+package me.dcun.demorestapi.common;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcUsageDataSourceTest {
+    JdbcUsageDataSource dataSource;
+
+    @BeforeEach
+    void initEach() {
+        JdbcDataSource target = new JdbcDataSource();
+        target.setURL("jdbc:h2:mem:jdbc-usage");
+        dataSource = new JdbcUsageDataSource(target);
+    }
+
+    @AfterEach
+    void cleanup() {
+        JdbcUsage.stop();
+    }
+
+    @Test
+    @DisplayName("추적 중인 요청이 없으면 커넥션을 감싸지 않음")
+    void doNotWrapUntrackedConnection() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(Proxy.isProxyClass(connection.getClass())).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("추적 중에는 문장 수와 행 수를 기록하고 상위 객체의 동일성을 유지")
+    void recordTrackedStatements() throws Exception {
+        JdbcUsage usage = JdbcUsage.start();
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select 1 union all select 2")) {
+            while (resultSet.next()) {
+                assertThat(resultSet.getInt(1)).isPositive();
+            }
+
+            assertThat(statement.getConnection()).isSameAs(connection);
+            assertThat(resultSet.getStatement()).isSameAs(statement);
+        }
+        assertThat(usage.getStatements()).isEqualTo(1);
+        assertThat(usage.getRows()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,57 @@
+package me.dcun.demorestapi.common;
+
+import me.dcun.demorestapi.events.EventController;
+import me.dcun.demorestapi.index.IndexController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+class LinkTemplatesTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void sameHrefAsLinkBuilder() {
+        //Given
+        bindRequest("api.example.com", 8080, "/app");
+
+        //Then
+        assertThat(LinkTemplates.controllerHref(EventController.class))
+                .isEqualTo(linkTo(EventController.class).withSelfRel().getHref());
+        assertThat(LinkTemplates.indexHref())
+                .isEqualTo(linkTo(methodOn(IndexController.class).index()).withSelfRel().getHref());
+    }
+
+    @Test
+    void hrefPerHost() {
+        //Given
+        bindRequest("first.example.com", 80, "");
+        String first = LinkTemplates.controllerHref(EventController.class);
+
+        //When
+        bindRequest("second.example.com", 80, "");
+        String second = LinkTemplates.controllerHref(EventController.class);
+
+        //Then
+        assertThat(first).isEqualTo("http://first.example.com/api/events");
+        assertThat(second).isEqualTo("http://second.example.com/api/events");
+    }
+
+    private void bindRequest(String host, int port, String contextPath) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setServerName(host);
+        request.setServerPort(port);
+        request.setContextPath(contextPath);
+        request.setRequestURI(contextPath + "/api");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
@@ -0,0 +1,83 @@
+package me.dcun.demorestapi.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import me.dcun.demorestapi.events.Event;
+import me.dcun.demorestapi.events.EventRepository;
+import me.dcun.demorestapi.events.EventStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = {
+        "my-app.request-diagnostics-enabled=true",
+        "my-app.request-allocation-tracking-enabled=true"})
+class RequestBudgetFilterTest extends BaseControllerTest {
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void initEach() {
+        eventRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("진단 모드에서 요청당 JDBC 사용량을 응답 헤더와 메트릭으로 기록")
+    void diagnosticsHeaders() throws Exception {
+        //Given
+        IntStream.range(0, 5).forEach(this::generateEvent);
+
+        //When & Then
+        this.mockMvc.perform(get("/api/events")
+                        .param("page", "0")
+                        .param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(3))
+                .andExpect(header().string(RequestBudgetFilter.STATEMENTS_HEADER, "2"))
+                .andExpect(header().string(RequestBudgetFilter.ROWS_HEADER, "4"))
+                .andExpect(header().exists(RequestBudgetFilter.JDBC_TIME_HEADER))
+                .andExpect(header().string(RequestBudgetFilter.ALLOCATED_BYTES_HEADER, not("0")));
+
+        assertThat(meterRegistry.get("request.jdbc.statements")
+                .tag("uri", "/api/events")
+                .summary()
+                .count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("이벤트 API 가 아닌 요청은 측정하지 않음")
+    void ignoreOtherPaths() throws Exception {
+        this.mockMvc.perform(get("/api"))
+                .andExpect(header().doesNotExist(RequestBudgetFilter.STATEMENTS_HEADER));
+    }
+
+    private void generateEvent(int index) {
+        this.eventRepository.save(Event.builder()
+                .name("event " + index)
+                .description("REST API")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 3, 27, 11, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 3, 28, 11, 30))
+                .beginEventDateTime(LocalDateTime.of(2022, 4, 27, 11, 30))
+                .endEventDateTime(LocalDateTime.of(2022, 4, 28, 11, 30))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역")
+                .eventStatus(EventStatus.DRAFT)
+                .build());
+    }
+}
@@ -0,0 +1,108 @@
+package me.dcun.demorestapi.configs;
+
+import me.dcun.demorestapi.accounts.Account;
+import me.dcun.demorestapi.accounts.AccountRepository;
+import me.dcun.demorestapi.accounts.AccountRole;
+import me.dcun.demorestapi.accounts.AccountService;
+import me.dcun.demorestapi.common.AppProperties;
+import me.dcun.demorestapi.common.BaseControllerTest;
+import me.dcun.demorestapi.events.EventDto;
+import me.dcun.demorestapi.events.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.common.util.Jackson2JsonParser;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = {
+        "my-app.token-mode=jwt",
+        "my-app.jwt-signing-key=jwt-token-mode-test-signing-key-0123456789"})
+class JwtTokenModeTest extends BaseControllerTest {
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AppProperties appProperties;
+
+    @BeforeEach
+    void initEach() {
+        eventRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("JWT 토큰으로 저장소 조회 없이 현재 사용자를 복원")
+    void createEventWithJwt() throws Exception {
+        //Given
+        Account account = accountService.saveAccount(Account.builder()
+                .email(appProperties.getAdminUsername())
+                .password(appProperties.getAdminPassword())
+                .roles(Set.of(AccountRole.ADMIN, AccountRole.USER))
+                .build());
+        String responseBody = this.mockMvc.perform(post("/oauth/token")
+                        .with(httpBasic(appProperties.getClientId(), appProperties.getClientSecret()))
+                        .param("username", appProperties.getAdminUsername())
+                        .param("password", appProperties.getAdminPassword())
+                        .param("grant_type", "password"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String accessToken = new Jackson2JsonParser().parseMap(responseBody).get("access_token").toString();
+
+        EventDto eventDto = EventDto.builder()
+                .name("spring")
+                .description("REST API")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 3, 27, 11, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 3, 28, 11, 30))
+                .beginEventDateTime(LocalDateTime.of(2022, 4, 27, 11, 30))
+                .endEventDateTime(LocalDateTime.of(2022, 4, 28, 11, 30))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역")
+                .build();
+
+        //When & Then
+        this.mockMvc.perform(post("/api/events")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaTypes.HAL_JSON)
+                        .content(objectMapper.writeValueAsString(eventDto)))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("manager.id").value(account.getId()))
+                .andExpect(jsonPath("_links.update-event").exists());
+    }
+
+    @Test
+    @DisplayName("비어 있거나 짧거나 공개된 기본값인 서명 키로는 jwt 모드를 시작하지 않음")
+    void rejectWeakSigningKey() {
+        assertThrows(IllegalStateException.class, () -> SecurityConfig.requireJwtSigningKey(null));
+        assertThrows(IllegalStateException.class, () -> SecurityConfig.requireJwtSigningKey(" "));
+        assertThrows(IllegalStateException.class, () -> SecurityConfig.requireJwtSigningKey("short-key"));
+        assertThrows(IllegalStateException.class,
+                () -> SecurityConfig.requireJwtSigningKey(SecurityConfig.PLACEHOLDER_JWT_SIGNING_KEY));
+        assertThat(SecurityConfig.requireJwtSigningKey(appProperties.getJwtSigningKey()))
+                .isEqualTo(appProperties.getJwtSigningKey());
+    }
+}
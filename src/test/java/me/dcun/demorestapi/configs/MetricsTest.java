@@ -0,0 +1,103 @@
+package me.dcun.demorestapi.configs;
+
+import me.dcun.demorestapi.accounts.Account;
+import me.dcun.demorestapi.accounts.AccountRepository;
+import me.dcun.demorestapi.accounts.AccountRole;
+import me.dcun.demorestapi.accounts.AccountService;
+import me.dcun.demorestapi.common.AppProperties;
+import me.dcun.demorestapi.common.BaseControllerTest;
+import me.dcun.demorestapi.events.EventDto;
+import me.dcun.demorestapi.events.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.common.util.Jackson2JsonParser;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+//테스트에서는 기본적으로 Prometheus 레지스트리가 꺼져 있으므로 켠다.
+@AutoConfigureMetrics
+class MetricsTest extends BaseControllerTest {
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AppProperties appProperties;
+
+    @BeforeEach
+    void initEach() {
+        eventRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("인증 없이 Prometheus 형식으로 지연 시간 히스토그램과 거절 코드를 수집")
+    void scrapePrometheus() throws Exception {
+        //Given
+        accountService.saveAccount(Account.builder()
+                .email(appProperties.getAdminUsername())
+                .password(appProperties.getAdminPassword())
+                .roles(Set.of(AccountRole.ADMIN, AccountRole.USER))
+                .build());
+        String responseBody = this.mockMvc.perform(post("/oauth/token")
+                        .with(httpBasic(appProperties.getClientId(), appProperties.getClientSecret()))
+                        .param("username", appProperties.getAdminUsername())
+                        .param("password", appProperties.getAdminPassword())
+                        .param("grant_type", "password"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String accessToken = new Jackson2JsonParser().parseMap(responseBody).get("access_token").toString();
+
+        EventDto wrongPrice = EventDto.builder()
+                .name("spring")
+                .description("REST API")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 3, 27, 11, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 3, 28, 11, 30))
+                .beginEventDateTime(LocalDateTime.of(2022, 4, 27, 11, 30))
+                .endEventDateTime(LocalDateTime.of(2022, 4, 28, 11, 30))
+                .basePrice(200)
+                .maxPrice(100)
+                .limitOfEnrollment(100)
+                .location("강남역")
+                .build();
+        this.mockMvc.perform(post("/api/events")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(wrongPrice)))
+                .andExpect(status().isBadRequest());
+        this.mockMvc.perform(get("/api/events"))
+                .andExpect(status().isOk());
+
+        //When
+        String metrics = this.mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        //Then
+        assertThat(metrics)
+                .contains("http_server_requests_seconds_bucket{")
+                .contains("spring_data_repository_invocations_seconds_bucket{")
+                .contains("accounts_principal_load_seconds_bucket{")
+                .contains("oauth2_token_store_seconds_bucket{")
+                .contains("events_validation_rejections_total{code=\"wrongValue\"")
+                .contains("cache_gets_total{cache=\"principal\"")
+                .contains("hibernate_");
+    }
+}
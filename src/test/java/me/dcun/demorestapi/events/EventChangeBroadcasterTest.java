@@ -0,0 +1,97 @@
+package me.dcun.demorestapi.events;
+
+import me.dcun.demorestapi.common.AppProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventChangeBroadcasterTest {
+    EventChangeBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setChangeHistorySize(5);
+        appProperties.setChangeBufferSize(3);
+        broadcaster = new EventChangeBroadcaster(appProperties);
+    }
+
+    @Test
+    void deliverChangesToSubscribers() {
+        List<EventChangeBroadcaster.Change> received = new ArrayList<>();
+        Disposable subscription = broadcaster.subscribe(null).subscribe(received::add);
+
+        broadcaster.onEventChanged(new EventChanged(EventChanged.Type.CREATED, 1, 0));
+        broadcaster.onEventChanged(new EventChanged(EventChanged.Type.UPDATED, 1, 1));
+
+        assertThat(received).extracting(EventChangeBroadcaster.Change::getId).containsExactly(1L, 2L);
+        assertThat(received.get(1).getEvent().getType()).isEqualTo(EventChanged.Type.UPDATED);
+
+        subscription.dispose();
+        assertThat(broadcaster.subscriberCount()).isZero();
+    }
+
+    @Test
+    void resumeAfterLastChangeId() {
+        IntStream.rangeClosed(1, 4).forEach(this::publish);
+
+        List<EventChangeBroadcaster.Change> received = new ArrayList<>();
+        broadcaster.subscribe(2L).subscribe(received::add);
+        publish(5);
+
+        assertThat(received).extracting(EventChangeBroadcaster.Change::getId).containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    void resumeOnlyWithinHistory() {
+        IntStream.rangeClosed(1, 8).forEach(this::publish);
+
+        List<EventChangeBroadcaster.Change> received = new ArrayList<>();
+        broadcaster.subscribe(0L).subscribe(received::add);
+
+        //최근 5 건만 보관한다.
+        assertThat(received).extracting(EventChangeBroadcaster.Change::getId).containsExactly(4L, 5L, 6L, 7L, 8L);
+    }
+
+    @Test
+    void dropOldestForSlowSubscriber() {
+        PausedSubscriber subscriber = new PausedSubscriber();
+        broadcaster.subscribe(null).subscribe(subscriber);
+
+        IntStream.rangeClosed(1, 10).forEach(this::publish);
+        assertThat(subscriber.received).isEmpty();
+
+        subscriber.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.received.stream().map(EventChangeBroadcaster.Change::getId).collect(Collectors.toList()))
+                .containsExactly(8L, 9L, 10L);
+        assertThat(broadcaster.droppedCount()).isEqualTo(7);
+    }
+
+    private void publish(int eventId) {
+        broadcaster.onEventChanged(new EventChanged(EventChanged.Type.CREATED, eventId, 0));
+    }
+
+    //요청하기 전까지 아무것도 받지 않는 느린 구독자
+    static class PausedSubscriber extends BaseSubscriber<EventChangeBroadcaster.Change> {
+        final List<EventChangeBroadcaster.Change> received = new ArrayList<>();
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+        }
+
+        @Override
+        protected void hookOnNext(EventChangeBroadcaster.Change change) {
+            received.add(change);
+        }
+    }
+}
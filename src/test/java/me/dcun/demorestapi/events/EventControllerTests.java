@@ -1,11 +1,14 @@
 package me.dcun.demorestapi.events;
 
+import com.jayway.jsonpath.JsonPath;
 import me.dcun.demorestapi.accounts.Account;
 import me.dcun.demorestapi.accounts.AccountRepository;
 import me.dcun.demorestapi.accounts.AccountRole;
 import me.dcun.demorestapi.accounts.AccountService;
 import me.dcun.demorestapi.common.AppProperties;
 import me.dcun.demorestapi.common.BaseControllerTest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,11 +18,24 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.oauth2.common.util.Jackson2JsonParser;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.Disposable;
 
+import javax.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.restdocs.headers.HeaderDocumentation.*;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.links;
@@ -43,6 +59,12 @@ class EventControllerTests extends BaseControllerTest {
     @Autowired
     AppProperties appProperties;
 
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    EventChangeBroadcaster eventChangeBroadcaster;
+
     @BeforeEach
     public void initEach() {
         eventRepository.deleteAll();
@@ -131,6 +153,85 @@ class EventControllerTests extends BaseControllerTest {
                 ));
     }
 
+    @Test
+    @DisplayName("여러 이벤트를 한 번에 생성하는 테스트")
+    void createEvents() throws Exception {
+        List<EventDto> eventDtos = IntStream.range(0, 3)
+                .mapToObj(this::buildEventDto)
+                .collect(Collectors.toList());
+
+        mockMvc.perform(post("/api/events/bulk")
+                        .header(HttpHeaders.AUTHORIZATION, getBearerAccessToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaTypes.HAL_JSON)
+                        .content(objectMapper.writeValueAsString(eventDtos)))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(3))
+                .andExpect(jsonPath("_embedded.eventList[0].id").exists())
+                .andExpect(jsonPath("_embedded.eventList[0].offline").value(true))
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self").exists())
+                .andExpect(jsonPath("_links.query-events").exists())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("create-events"));
+    }
+
+    @Test
+    @DisplayName("일괄 생성 시 잘못된 항목의 순번을 에러로 응답")
+    void createEvents_bad_request() throws Exception {
+        EventDto wrongPrice = buildEventDto(1);
+        wrongPrice.setBasePrice(20000);
+        EventDto emptyName = buildEventDto(2);
+        emptyName.setName(null);
+        List<EventDto> eventDtos = List.of(buildEventDto(0), wrongPrice, emptyName);
+
+        mockMvc.perform(post("/api/events/bulk")
+                        .header(HttpHeaders.AUTHORIZATION, getBearerAccessToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(eventDtos)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].field").value("events[1].basePrice"))
+                .andExpect(jsonPath("errors[1].field").value("events[1].maxPrice"))
+                .andExpect(jsonPath("errors[2].field").value("events[2].name"))
+                .andExpect(jsonPath("_links.index").exists());
+
+        assertThat(eventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("일괄 생성 시 null 항목은 순번과 함께 에러로 응답")
+    void createEvents_null_element() throws Exception {
+        String content = "[" + objectMapper.writeValueAsString(buildEventDto(0)) + ", null]";
+
+        mockMvc.perform(post("/api/events/bulk")
+                        .header(HttpHeaders.AUTHORIZATION, getBearerAccessToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].field").value("events[1]"))
+                .andExpect(jsonPath("errors[0].code").value("required"))
+                .andExpect(jsonPath("_links.index").exists());
+
+        assertThat(eventRepository.count()).isZero();
+    }
+
+    private EventDto buildEventDto(int index) {
+        return EventDto.builder()
+                .name("event " + index)
+                .description("REST API")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 3, 27, 11, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 3, 28, 11, 30))
+                .beginEventDateTime(LocalDateTime.of(2022, 4, 27, 11, 30))
+                .endEventDateTime(LocalDateTime.of(2022, 4, 28, 11, 30))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역")
+                .build();
+    }
+
     private String getBearerAccessToken(boolean needToCreateToken) throws Exception {
         return "Bearer " + getAccessToken(needToCreateToken);
     }
@@ -146,10 +247,18 @@ class EventControllerTests extends BaseControllerTest {
         }
 
         //When
+        return getAccessToken(appProperties.getAdminUsername(), appProperties.getAdminPassword());
+    }
+
+    private String getBearerAccessToken(String username, String password) throws Exception {
+        return "Bearer " + getAccessToken(username, password);
+    }
+
+    private String getAccessToken(String username, String password) throws Exception {
         ResultActions perform = this.mockMvc.perform(post("/oauth/token")
                 .with(httpBasic(appProperties.getClientId(), appProperties.getClientSecret()))
-                .param("username", appProperties.getAdminUsername())
-                .param("password", appProperties.getAdminPassword())
+                .param("username", username)
+                .param("password", password)
                 .param("grant_type", "password"));
         var responseBody = perform.andReturn().getResponse().getContentAsString();
         Jackson2JsonParser jackson2JsonParser = new Jackson2JsonParser();
@@ -165,6 +274,15 @@ class EventControllerTests extends BaseControllerTest {
         return this.accountService.saveAccount(account);
     }
 
+    private Account createUserAccount() {
+        Account account = Account.builder()
+                .email("user@email.com")
+                .password("user")
+                .roles(Set.of(AccountRole.USER))
+                .build();
+        return this.accountService.saveAccount(account);
+    }
+
     @Test
     @DisplayName("입력 받을 수 없는 값을 사용한 경우에 에러 이벤트를 생성하는 테스트")
     void createEvent_bad_request() throws Exception {
@@ -272,6 +390,231 @@ class EventControllerTests extends BaseControllerTest {
                 .andDo(document("query-events"));
     }
 
+    @Test
+    @DisplayName("페이지 크기와 상관없이 목록 조회 쿼리 수가 일정")
+    void queryEventsStatementCount() throws Exception {
+        //Given
+        Account account = createAccount();
+        IntStream.range(0, 30).forEach(i -> generateEvent(i, account));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        boolean statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+
+        //When
+        statistics.clear();
+        mockMvc.perform(get("/api/events").param("size", "5"))
+                .andExpect(status().isOk());
+        long smallPageCount = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        mockMvc.perform(get("/api/events").param("size", "20"))
+                .andExpect(status().isOk());
+        long largePageCount = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(statisticsEnabled);
+
+        //Then
+        assertThat(largePageCount).isEqualTo(smallPageCount);
+        assertThat(largePageCount).isEqualTo(2); //select + count
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 이벤트만 조회")
+    void queryEventsWithCondition() throws Exception {
+        //Given
+        IntStream.range(0, 30).forEach(this::generateEvent);
+
+        mockMvc.perform(get("/api/events")
+                        .param("eventStatus", EventStatus.DRAFT.name())
+                        .param("offline", "true")
+                        .param("location", "강남역")
+                        .param("priceFrom", "100")
+                        .param("priceTo", "100")
+                        .param("eventFrom", "2022-04-01T00:00:00")
+                        .param("size", "10"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(30))
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10));
+
+        mockMvc.perform(get("/api/events")
+                        .param("eventStatus", EventStatus.PUBLISHED.name())
+                        .param("free", "true"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(0))
+                .andExpect(jsonPath("_embedded").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("인증한 사용자가 관리하는 이벤트만 조회")
+    void queryMyEvents() throws Exception {
+        //Given
+        Account account = createAccount();
+        Account otherAccount = createUserAccount();
+        IntStream.range(0, 5).forEach(i -> generateEvent(i, account));
+        IntStream.range(5, 10).forEach(i -> generateEvent(i, otherAccount));
+
+        mockMvc.perform(get("/api/events")
+                        .header(HttpHeaders.AUTHORIZATION, getBearerAccessToken(false))
+                        .param("manager", "me")
+                        .param("size", "3"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(5))
+                .andExpect(jsonPath("_embedded.eventList.length()").value(3))
+                .andExpect(jsonPath("_embedded.eventList[*].manager.id").value(everyItem(is(account.getId()))))
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self").exists())
+                .andExpect(jsonPath("_embedded.eventList[0]._links.update-event").exists())
+                .andExpect(jsonPath("_links.next.href").value(containsString("manager=me")))
+                .andExpect(jsonPath("_links.profile").exists())
+                .andExpect(jsonPath("_links.create-event").exists())
+                .andDo(document("query-my-events"));
+    }
+
+    @Test
+    @DisplayName("인증 없이 manager=me 로 조회시 unauthorized 응답")
+    void queryMyEventsWithoutAuthentication() throws Exception {
+        mockMvc.perform(get("/api/events").param("manager", "me"))
+                .andDo(print())
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("manager 와 다른 검색 조건을 함께 조회시 bad request 응답")
+    void queryEventsByManagerWithCondition() throws Exception {
+        //Given
+        createAccount();
+
+        mockMvc.perform(get("/api/events")
+                        .header(HttpHeaders.AUTHORIZATION, getBearerAccessToken(false))
+                        .param("manager", "me")
+                        .param("eventStatus", EventStatus.PUBLISHED.name()))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].objectName").value("eventSearchCondition"))
+                .andExpect(jsonPath("errors[0].code").value("conflictingCondition"))
+                .andExpect(jsonPath("_links.index").exists());
+    }
+
+    @Test
+    @DisplayName("관리자는 다른 계정이 관리하는 이벤트를 수정 링크 없이 조회")
+    void queryEventsByManagerAsAdmin() throws Exception {
+        //Given
+        Account otherAccount = createUserAccount();
+        IntStream.range(0, 5).forEach(i -> generateEvent(i, otherAccount));
+
+        mockMvc.perform(get("/api/events")
+                        .header(HttpHeaders.AUTHORIZATION, getBearerAccessToken())
+                        .param("manager", String.valueOf(otherAccount.getId())))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(5))
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self").exists())
+                .andExpect(jsonPath("_embedded.eventList[0]._links.update-event").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("관리자가 아니면 다른 계정의 이벤트 목록 조회시 forbidden 응답")
+    void queryEventsByManagerWithoutAdminRole() throws Exception {
+        //Given
+        Account account = createAccount();
+        createUserAccount();
+
+        mockMvc.perform(get("/api/events")
+                        .header(HttpHeaders.AUTHORIZATION, getBearerAccessToken("user@email.com", "user"))
+                        .param("manager", String.valueOf(account.getId())))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/api/events")
+                        .header(HttpHeaders.AUTHORIZATION, getBearerAccessToken("user@email.com", "user"))
+                        .param("manager", "unknown"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("30개의 이벤트를 커서 기반으로 10개씩 조회")
+    void scrollEvents() throws Exception {
+        //Given
+        IntStream.range(0, 30).forEach(this::generateEvent);
+
+        var firstPage = mockMvc.perform(get("/api/events/scroll")
+                        .param("size", "10"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.next").exists())
+                .andExpect(jsonPath("_links.prev").doesNotExist())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("scroll-events"))
+                .andReturn().getResponse().getContentAsString();
+
+        String next = JsonPath.read(firstPage, "$._links.next.href");
+        String after = UriComponentsBuilder.fromUriString(next).build().getQueryParams().getFirst("after");
+
+        mockMvc.perform(get("/api/events/scroll")
+                        .param("after", after)
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList.length()").value(10))
+                .andExpect(jsonPath("_links.next").exists())
+                .andExpect(jsonPath("_links.prev").exists());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 조회시 bad request 응답")
+    void scrollEventsWithWrongCursor() throws Exception {
+        this.mockMvc.perform(get("/api/events/scroll")
+                        .param("after", "wrong-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("전체 이벤트를 NDJSON 으로 내보내기")
+    void exportEventsAsNdjson() throws Exception {
+        //Given
+        IntStream.range(0, 3).forEach(this::generateEvent);
+
+        String content = mockMvc.perform(get("/api/events/export"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, startsWith("application/x-ndjson")))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("events.ndjson")))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = content.split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(new Jackson2JsonParser().parseMap(lines[0]).get("name")).isEqualTo("event 0");
+    }
+
+    @Test
+    @DisplayName("전체 이벤트를 CSV 로 내보내기")
+    void exportEventsAsCsv() throws Exception {
+        //Given
+        IntStream.range(0, 3).forEach(this::generateEvent);
+
+        String content = mockMvc.perform(get("/api/events/export")
+                        .param("format", "csv"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, startsWith("text/csv")))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = content.split("\n");
+        assertThat(lines).hasSize(4);
+        assertThat(lines[0]).startsWith("id,name,description");
+        assertThat(lines[1]).contains(",event 0,REST API,").contains(",강남역,");
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식으로 내보내기")
+    void exportEventsWithWrongFormat() throws Exception {
+        mockMvc.perform(get("/api/events/export")
+                        .param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("1개 조회")
     void getEvent() throws Exception {
@@ -286,6 +629,88 @@ class EventControllerTests extends BaseControllerTest {
                 .andDo(document("get-an-event"));
     }
 
+    @Test
+    @DisplayName("두 번째 조회는 2차 캐시에서 이벤트를 읽음")
+    void getEventFromSecondLevelCache() throws Exception {
+        Account account = createAccount();
+        Event event = generateEvent(100, account);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        boolean statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk());
+        this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getDomainDataRegionStatistics(Event.class.getName()).getHitCount()).isPositive();
+        statistics.setStatisticsEnabled(statisticsEnabled);
+    }
+
+    @Test
+    @DisplayName("내보내기와 스크롤 조회는 2차 캐시에 이벤트를 넣지 않음")
+    void exportAndScrollBypassSecondLevelCache() throws Exception {
+        IntStream.range(0, 3).forEach(this::generateEvent);
+        entityManagerFactory.getCache().evictAll();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        boolean statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        this.mockMvc.perform(get("/api/events/export"))
+                .andExpect(status().isOk());
+        this.mockMvc.perform(get("/api/events/scroll"))
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getDomainDataRegionStatistics(Event.class.getName()).getPutCount()).isZero();
+        statistics.setStatisticsEnabled(statisticsEnabled);
+    }
+
+    @Test
+    @DisplayName("ETag 가 같으면 본문 없이 304 응답")
+    void getEventNotModified() throws Exception {
+        Account account = createAccount();
+        Event event = generateEvent(100, account);
+
+        String etag = this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, event.etag()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        this.mockMvc.perform(get("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("관리자가 조회한 ETag 를 If-Match 로 보내 수정")
+    void updateEventWithEtagFromGet() throws Exception {
+        Account account = createAccount();
+        Event event = this.generateEvent(100, account);
+        String accessToken = getBearerAccessToken(false);
+
+        String etag = this.mockMvc.perform(get("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_links.update-event").exists())
+                .andExpect(header().string(HttpHeaders.ETAG, not(event.etag())))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        EventDto eventDto = this.modelMapper.map(event, EventDto.class);
+        eventDto.setName("Updated Event");
+        this.mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, accessToken)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.objectMapper.writeValueAsString(eventDto)))
+                .andDo(print())
+                .andExpect(status().isOk());
+    }
+
     @Test
     @DisplayName("잘못된 ID로 조회시 not found 응답")
     void notFount() throws Exception {
@@ -312,6 +737,71 @@ class EventControllerTests extends BaseControllerTest {
                 .andExpect(jsonPath("_links.self").exists());
     }
 
+    @Test
+    @DisplayName("이벤트 생성과 수정이 변경 알림으로 발행됨")
+    void publishEventChanges() throws Exception {
+        List<EventChangeBroadcaster.Change> changes = new ArrayList<>();
+        Disposable subscription = eventChangeBroadcaster.subscribe(null).subscribe(changes::add);
+        try {
+            createAccount();
+            String accessToken = getBearerAccessToken(false);
+            EventDto eventDto = this.modelMapper.map(buildEvent(300), EventDto.class);
+
+            String content = this.mockMvc.perform(post("/api/events")
+                            .header(HttpHeaders.AUTHORIZATION, accessToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(this.objectMapper.writeValueAsString(eventDto)))
+                    .andExpect(status().isCreated())
+                    .andReturn().getResponse().getContentAsString();
+            Integer id = JsonPath.read(content, "$.id");
+
+            eventDto.setName("Updated Event");
+            this.mockMvc.perform(put("/api/events/{id}", id)
+                            .header(HttpHeaders.AUTHORIZATION, accessToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(this.objectMapper.writeValueAsString(eventDto)))
+                    .andExpect(status().isOk());
+
+            assertThat(changes).extracting(change -> change.getEvent().getType())
+                    .containsExactly(EventChanged.Type.CREATED, EventChanged.Type.UPDATED);
+            assertThat(changes).extracting(change -> change.getEvent().getEventId()).containsOnly(id);
+            assertThat(changes.get(1).getId()).isEqualTo(changes.get(0).getId() + 1);
+        } finally {
+            subscription.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("If-Match 가 현재 ETag 와 다르면 412 응답")
+    void updateEventPreconditionFailed() throws Exception {
+        Account account = createAccount();
+        Event event = this.generateEvent(200, account);
+        EventDto eventDto = this.modelMapper.map(event, EventDto.class);
+        String staleEtag = event.etag();
+        String accessToken = getBearerAccessToken(false);
+
+        eventDto.setName("first update");
+        String etag = this.mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, accessToken)
+                        .header(HttpHeaders.IF_MATCH, staleEtag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotEqualTo(staleEtag);
+
+        eventDto.setName("second update");
+        this.mockMvc.perform(put("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, accessToken)
+                        .header(HttpHeaders.IF_MATCH, staleEtag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.objectMapper.writeValueAsString(eventDto)))
+                .andDo(print())
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+    }
+
     @Test
     @DisplayName("Event id 가 없는 데이터를 호출한 경우")
     void updateEvent404() throws Exception {
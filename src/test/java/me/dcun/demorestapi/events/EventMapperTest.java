@@ -0,0 +1,58 @@
+package me.dcun.demorestapi.events;
+
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventMapperTest {
+    EventMapper eventMapper = new EventMapper();
+
+    @Test
+    void verify() {
+        eventMapper.verify();
+    }
+
+    @Test
+    void sameAsModelMapper() {
+        //Given
+        EventDto eventDto = EventDto.builder()
+                .name("spring")
+                .description("REST API")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 3, 27, 11, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 3, 28, 11, 30))
+                .beginEventDateTime(LocalDateTime.of(2022, 4, 27, 11, 30))
+                .endEventDateTime(LocalDateTime.of(2022, 4, 28, 11, 30))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역")
+                .build();
+
+        //When
+        Event event = eventMapper.toEvent(eventDto);
+
+        //Then
+        assertThat(event).usingRecursiveComparison()
+                .isEqualTo(new ModelMapper().map(eventDto, Event.class));
+        assertThat(event.getEventStatus()).isEqualTo(EventStatus.DRAFT);
+    }
+
+    @Test
+    void update() {
+        //Given
+        Event event = Event.builder().id(1).name("before").eventStatus(EventStatus.PUBLISHED).build();
+        EventDto eventDto = EventDto.builder().name("after").basePrice(100).build();
+
+        //When
+        eventMapper.update(eventDto, event);
+
+        //Then
+        assertThat(event.getId()).isEqualTo(1);
+        assertThat(event.getName()).isEqualTo("after");
+        assertThat(event.getBasePrice()).isEqualTo(100);
+        assertThat(event.getEventStatus()).isEqualTo(EventStatus.PUBLISHED);
+    }
+}
@@ -0,0 +1,146 @@
+package me.dcun.demorestapi.events;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+//예약 실행과 겹치지 않도록 publishPending 을 직접 호출한다.
+@TestPropertySource(properties = {"my-app.outbox-poll-interval=1h", "my-app.outbox-batch-size=3"})
+class EventOutboxTest {
+    @Autowired
+    EventService eventService;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EventOutboxRepository eventOutboxRepository;
+
+    @Autowired
+    EventOutboxPublisher eventOutboxPublisher;
+
+    @Autowired
+    InMemoryEventOutboxSink eventOutboxSink;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void initEach() {
+        eventOutboxRepository.deleteAllInBatch();
+        eventRepository.deleteAll();
+        eventOutboxSink.clear();
+    }
+
+    @Test
+    @DisplayName("이벤트 저장과 함께 outbox 에 기록하고 배치 단위로 발행")
+    void publishInBatches() {
+        //Given
+        List<Event> events = eventService.createEvents(IntStream.range(0, 7)
+                .mapToObj(this::buildEvent)
+                .collect(Collectors.toList()));
+        assertThat(eventOutboxRepository.count()).isEqualTo(7);
+
+        //When
+        int published = eventOutboxPublisher.publishPending();
+
+        //Then
+        assertThat(published).isEqualTo(7);
+        assertThat(eventOutboxRepository.count()).isZero();
+        assertThat(eventOutboxSink.getMessages())
+                .extracting(EventOutbox::getEventId)
+                .containsExactlyElementsOf(events.stream().map(Event::getId).collect(Collectors.toList()));
+        assertThat(eventOutboxSink.getMessages())
+                .extracting(EventOutbox::getType)
+                .containsOnly(EventChanged.Type.CREATED);
+    }
+
+    @Test
+    @DisplayName("sink 가 실패하면 실패 수를 기록하고 삭제하지 않았다가 다음 주기에 발행")
+    void retryAfterSinkFailure() {
+        //Given
+        eventService.createEvents(IntStream.range(0, 4)
+                .mapToObj(this::buildEvent)
+                .collect(Collectors.toList()));
+        double failures = meterRegistry.counter("events.outbox.publish.failures").count();
+        eventOutboxSink.failWith(new IOException("sink unavailable"));
+
+        //When
+        int published = eventOutboxPublisher.publishPending();
+
+        //Then
+        assertThat(published).isZero();
+        assertThat(eventOutboxRepository.count()).isEqualTo(4);
+        assertThat(meterRegistry.counter("events.outbox.publish.failures").count()).isEqualTo(failures + 1);
+
+        eventOutboxSink.clear();
+        assertThat(eventOutboxPublisher.publishPending()).isEqualTo(4);
+        assertThat(eventOutboxRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("이벤트 수정이 실패하면 outbox 에도 기록하지 않음")
+    void rollbackWithEvent() {
+        //Given
+        Event event = eventService.createEvent(buildEvent(0));
+        Event stale = eventRepository.findById(event.getId()).orElseThrow();
+        Event current = eventRepository.findById(event.getId()).orElseThrow();
+        current.setName("first update");
+        Event updated = eventService.updateEvent(current);
+        assertThat(updated.getVersion()).isEqualTo(stale.getVersion() + 1);
+        long count = eventOutboxRepository.count();
+
+        //When
+        stale.setName("second update");
+
+        //Then
+        assertThatThrownBy(() -> eventService.updateEvent(stale))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(eventOutboxRepository.count()).isEqualTo(count);
+    }
+
+    private Event buildEvent(int index) {
+        return Event.builder()
+                .name("event " + index)
+                .description("REST API")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 3, 27, 11, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 3, 28, 11, 30))
+                .beginEventDateTime(LocalDateTime.of(2022, 4, 27, 11, 30))
+                .endEventDateTime(LocalDateTime.of(2022, 4, 28, 11, 30))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역")
+                .eventStatus(EventStatus.DRAFT)
+                .build();
+    }
+
+    @TestConfiguration
+    static class OutboxSinkConfig {
+        @Bean
+        @Primary
+        InMemoryEventOutboxSink inMemoryEventOutboxSink() {
+            return new InMemoryEventOutboxSink();
+        }
+    }
+}
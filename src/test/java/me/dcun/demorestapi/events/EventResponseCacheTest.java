@@ -0,0 +1,193 @@
+package me.dcun.demorestapi.events;
+
+import me.dcun.demorestapi.accounts.Account;
+import me.dcun.demorestapi.accounts.AccountRepository;
+import me.dcun.demorestapi.accounts.AccountRole;
+import me.dcun.demorestapi.accounts.AccountService;
+import me.dcun.demorestapi.common.AppProperties;
+import me.dcun.demorestapi.common.BaseControllerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.common.util.Jackson2JsonParser;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.servlet.FilterChain;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = "my-app.response-cache-enabled=true")
+class EventResponseCacheTest extends BaseControllerTest {
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    AppProperties appProperties;
+
+    @Autowired
+    EventResponseCache eventResponseCache;
+
+    @BeforeEach
+    void initEach() {
+        eventRepository.deleteAll();
+        accountRepository.deleteAll();
+        eventResponseCache.invalidateAll();
+    }
+
+    @Test
+    @DisplayName("익명 조회는 캐시된 응답을 사용하고 이벤트 생성 시 캐시를 비움")
+    void cacheAnonymousRead() throws Exception {
+        //Given
+        Event event = eventRepository.save(buildEvent());
+
+        this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("public")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=")));
+
+        //When : 캐시를 거치지 않고 삭제
+        eventRepository.delete(event);
+
+        //Then
+        this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("id").value(event.getId()))
+                .andExpect(header().exists(HttpHeaders.ETAG));
+
+        //When : API 로 생성하면 캐시가 비워짐
+        this.mockMvc.perform(post("/api/events")
+                        .header(HttpHeaders.AUTHORIZATION, getBearerAccessToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(EventDto.builder()
+                                .name("spring")
+                                .description("REST API")
+                                .beginEnrollmentDateTime(LocalDateTime.of(2022, 3, 27, 11, 30))
+                                .closeEnrollmentDateTime(LocalDateTime.of(2022, 3, 28, 11, 30))
+                                .beginEventDateTime(LocalDateTime.of(2022, 4, 27, 11, 30))
+                                .endEventDateTime(LocalDateTime.of(2022, 4, 28, 11, 30))
+                                .build())))
+                .andExpect(status().isCreated());
+
+        //Then
+        this.mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Host 가 다른 요청은 캐시된 응답을 공유하지 않음")
+    void cacheByHost() throws Exception {
+        //Given
+        eventRepository.save(buildEvent());
+
+        this.mockMvc.perform(get("/api/events")
+                        .header(HttpHeaders.HOST, "evil.example"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_links.self.href").value(containsString("//evil.example/")))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.AUTHORIZATION)));
+
+        //When & Then
+        this.mockMvc.perform(get("/api/events")
+                        .header(HttpHeaders.HOST, "localhost"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_links.self.href").value(containsString("//localhost/")))
+                .andExpect(jsonPath("_embedded.eventList[0]._links.self.href").value(containsString("//localhost/")))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.AUTHORIZATION)));
+    }
+
+    @Test
+    @DisplayName("인증된 단건 조회는 캐시하지 않음")
+    void doNotCacheAuthenticatedRead() throws Exception {
+        //Given
+        Event event = eventRepository.save(buildEvent());
+        String accessToken = getBearerAccessToken();
+
+        this.mockMvc.perform(get("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, accessToken))
+                .andExpect(status().isOk());
+
+        //When
+        eventRepository.delete(event);
+
+        //Then
+        this.mockMvc.perform(get("/api/events/{id}", event.getId())
+                        .header(HttpHeaders.AUTHORIZATION, accessToken))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("조회 중에 캐시를 비우면 그 조회의 응답은 저장하지 않음")
+    void doNotStoreResponseStartedBeforeInvalidation() throws Exception {
+        //Given : 조회가 끝나기 전에 다른 요청의 수정이 커밋되어 캐시를 비운다.
+        AtomicInteger reads = new AtomicInteger();
+        FilterChain invalidatingRead = (request, response) -> {
+            reads.incrementAndGet();
+            eventResponseCache.invalidateAll();
+            response.getWriter().write("{}");
+        };
+        eventResponseCache.doFilter(new MockHttpServletRequest("GET", "/api/events"),
+                new MockHttpServletResponse(), invalidatingRead);
+
+        //When
+        FilterChain read = (request, response) -> {
+            reads.incrementAndGet();
+            response.getWriter().write("{}");
+        };
+        eventResponseCache.doFilter(new MockHttpServletRequest("GET", "/api/events"),
+                new MockHttpServletResponse(), read);
+
+        //Then : 두 번째 조회는 캐시가 아닌 체인에서 응답한다.
+        assertThat(reads).hasValue(2);
+    }
+
+    private String getBearerAccessToken() throws Exception {
+        accountService.saveAccount(Account.builder()
+                .email(appProperties.getAdminUsername())
+                .password(appProperties.getAdminPassword())
+                .roles(Set.of(AccountRole.ADMIN, AccountRole.USER))
+                .build());
+        String responseBody = this.mockMvc.perform(post("/oauth/token")
+                        .with(httpBasic(appProperties.getClientId(), appProperties.getClientSecret()))
+                        .param("username", appProperties.getAdminUsername())
+                        .param("password", appProperties.getAdminPassword())
+                        .param("grant_type", "password"))
+                .andReturn().getResponse().getContentAsString();
+        return "Bearer " + new Jackson2JsonParser().parseMap(responseBody).get("access_token");
+    }
+
+    private Event buildEvent() {
+        return Event.builder()
+                .name("event")
+                .description("REST API")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 3, 27, 11, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 3, 28, 11, 30))
+                .beginEventDateTime(LocalDateTime.of(2022, 4, 27, 11, 30))
+                .endEventDateTime(LocalDateTime.of(2022, 4, 28, 11, 30))
+                .eventStatus(EventStatus.DRAFT)
+                .build();
+    }
+}
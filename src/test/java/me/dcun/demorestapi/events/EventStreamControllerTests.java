@@ -0,0 +1,148 @@
+package me.dcun.demorestapi.events;
+
+import me.dcun.demorestapi.common.BaseControllerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.common.util.Jackson2JsonParser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+//조각 경계를 여러 번 넘도록 fetch 크기를 줄인다.
+@TestPropertySource(properties = "my-app.stream-fetch-size=2")
+class EventStreamControllerTests extends BaseControllerTest {
+    @Autowired
+    EventRepository eventRepository;
+
+    @BeforeEach
+    void initEach() {
+        eventRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("전체 이벤트를 NDJSON 스트림으로 조회")
+    void streamEvents() throws Exception {
+        //Given
+        IntStream.range(0, 5).forEach(this::generateEvent);
+
+        //When
+        String content = streamContent(MediaType.parseMediaType("application/x-ndjson"), null);
+
+        //Then
+        List<Map<String, Object>> events = Arrays.stream(content.split("\n"))
+                .map(line -> new Jackson2JsonParser().parseMap(line))
+                .collect(Collectors.toList());
+        assertThat(events).hasSize(5);
+        assertThat(events.get(0).get("name")).isEqualTo("event 0");
+        assertThat(events.get(4).get("name")).isEqualTo("event 4");
+        assertThat(events.get(0)).containsKey("_links");
+    }
+
+    @Test
+    @DisplayName("SSE 스트림의 id 로 이어서 조회")
+    void streamEventsAsSseAfterLastId() throws Exception {
+        //Given
+        IntStream.range(0, 5).forEach(this::generateEvent);
+
+        String content = streamContent(MediaType.TEXT_EVENT_STREAM, null);
+        List<String> ids = Arrays.stream(content.split("\n"))
+                .filter(line -> line.startsWith("id:"))
+                .map(line -> line.substring("id:".length()))
+                .collect(Collectors.toList());
+        assertThat(ids).hasSize(5);
+
+        //When
+        String rest = streamContent(MediaType.TEXT_EVENT_STREAM, ids.get(2));
+
+        //Then
+        assertThat(rest.split("\n")).filteredOn(line -> line.startsWith("data:")).hasSize(2);
+        assertThat(rest).contains("event 3").contains("event 4").doesNotContain("event 2");
+    }
+
+    @Test
+    @DisplayName("재연결 시 Last-Event-ID 헤더가 after 보다 우선")
+    void streamEventsAsSseWithLastEventId() throws Exception {
+        //Given
+        IntStream.range(0, 5).forEach(this::generateEvent);
+
+        List<String> ids = Arrays.stream(streamContent(MediaType.TEXT_EVENT_STREAM, null).split("\n"))
+                .filter(line -> line.startsWith("id:"))
+                .map(line -> line.substring("id:".length()))
+                .collect(Collectors.toList());
+
+        //When : EventSource 는 같은 URL(after 없음 또는 처음 after)로 재연결한다.
+        MvcResult mvcResult = this.mockMvc.perform(get("/api/events/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .header("Last-Event-ID", ids.get(3)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String rest = this.mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        //Then
+        assertThat(rest.split("\n")).filteredOn(line -> line.startsWith("data:")).hasSize(1);
+        assertThat(rest).contains("event 4").doesNotContain("event 3");
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 스트림 조회시 bad request 응답")
+    void streamEventsWithWrongCursor() throws Exception {
+        this.mockMvc.perform(get("/api/events/stream")
+                        .accept("application/x-ndjson")
+                        .param("after", "wrong-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String streamContent(MediaType mediaType, String after) throws Exception {
+        var requestBuilder = get("/api/events/stream").accept(mediaType);
+        if (after != null) {
+            requestBuilder.param("after", after);
+        }
+        MvcResult mvcResult = this.mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return this.mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, startsWith(mediaType.toString())))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private void generateEvent(int index) {
+        this.eventRepository.save(Event.builder()
+                .name("event " + index)
+                .description("REST API")
+                .beginEnrollmentDateTime(LocalDateTime.of(2022, 3, 27, 11, 30))
+                .closeEnrollmentDateTime(LocalDateTime.of(2022, 3, 28, 11, 30))
+                .beginEventDateTime(LocalDateTime.of(2022, 4, 27, 11, 30))
+                .endEventDateTime(LocalDateTime.of(2022, 4, 28, 11, 30))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역")
+                .free(false)
+                .offline(true)
+                .eventStatus(EventStatus.DRAFT)
+                .build());
+    }
+}
@@ -0,0 +1,31 @@
+package me.dcun.demorestapi.events;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class InMemoryEventOutboxSink implements EventOutboxSink {
+    private final List<EventOutbox> messages = new ArrayList<>();
+    private IOException failure;
+
+    @Override
+    public synchronized void publish(List<EventOutbox> messages) throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+        this.messages.addAll(messages);
+    }
+
+    public synchronized List<EventOutbox> getMessages() {
+        return new ArrayList<>(messages);
+    }
+
+    public synchronized void failWith(IOException failure) {
+        this.failure = failure;
+    }
+
+    public synchronized void clear() {
+        messages.clear();
+        failure = null;
+    }
+}